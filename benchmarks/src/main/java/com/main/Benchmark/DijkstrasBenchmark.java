@@ -0,0 +1,79 @@
+package com.main.Benchmark;
+
+import com.main.Algo.Dijkstras;
+import com.main.Algo.SearchContext;
+import com.main.Algo.SearchEngine;
+import com.main.Heap.QueueType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full single source maximum bandwidth searches with the Vertex based engines and the CSR engine.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class DijkstrasBenchmark {
+
+    private Dijkstras dijkstras;
+
+    private Dijkstras arrayScanDijkstras;
+
+    private SearchContext context;
+
+    private int source;
+
+    private final double[] runtime = new double[1];
+
+    @Setup(Level.Trial)
+    public void setup(GraphState state) {
+        this.dijkstras = new Dijkstras(state.vertices, QueueType.BINARY_HEAP, SearchEngine.HEAP);
+        this.arrayScanDijkstras = new Dijkstras(0, QueueType.BINARY_HEAP, SearchEngine.ARRAY_SCAN);
+        this.context = new SearchContext(state.vertices);
+    }
+
+    @Setup(Level.Invocation)
+    public void nextSearch(GraphState state) {
+        //Vertex based engines keep their state in the graph, it is cleared outside of the measurement
+        state.reset();
+        this.source = state.nextSource();
+    }
+
+    @Benchmark
+    public int withHeap(GraphState state) {
+        this.dijkstras.withHeap(state.graph, this.source, state.density, this.runtime);
+        return state.graph[state.sources[0]].getBandwidth();
+    }
+
+    @Benchmark
+    public int withoutHeap(GraphState state) {
+        this.dijkstras.withoutHeap(state.graph, this.source, state.density, this.runtime);
+        return state.graph[state.sources[0]].getBandwidth();
+    }
+
+    @Benchmark
+    public int withHeapCompact(GraphState state) {
+        this.dijkstras.search(state.compactGraph, this.source, this.context);
+        return this.context.getBandwidth(state.sources[0]);
+    }
+
+    @Benchmark
+    public int arrayScanCompact(GraphState state) {
+        this.arrayScanDijkstras.search(state.compactGraph, this.source, this.context);
+        return this.context.getBandwidth(state.sources[0]);
+    }
+}
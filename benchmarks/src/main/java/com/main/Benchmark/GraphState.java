@@ -0,0 +1,83 @@
+package com.main.Benchmark;
+
+import com.main.Algo.Helper;
+import com.main.Graph.CompactGraph;
+import com.main.Graph.Edge;
+import com.main.Graph.Graph;
+import com.main.Graph.Vertex;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.LinkedList;
+import java.util.SplittableRandom;
+
+/**
+ * Graph shared by the graph benchmarks, generated once per trial from a fixed seed so that every run and every
+ * engine measures the same graph and the same source vertices.
+ */
+@State(Scope.Benchmark)
+public class GraphState {
+
+    public static final long SEED = 42;
+
+    private static final int NUMBER_OF_SOURCES = 16;
+
+    @Param({"5000", "10000"})
+    public int vertices;
+
+    @Param({"sparse", "dense"})
+    public String density;
+
+    public Vertex[] graph;
+
+    public LinkedList<Edge> edges;
+
+    public CompactGraph compactGraph;
+
+    public int[] sources;
+
+    private int nextSource;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        Helper.setPrintStats(false);
+        Graph generated = new Graph(SEED, this.vertices, Graph.DEFAULT_SPARSE_DEGREE,
+                Graph.DEFAULT_DENSE_MIN_DEGREE, Graph.DEFAULT_DENSE_MAX_DEGREE);
+        if(this.density.equals("sparse")) {
+            this.graph = generated.getSparseGraph();
+            this.edges = generated.getSparseGraphEdges();
+            this.compactGraph = generated.getSparseCompactGraph();
+        } else {
+            this.graph = generated.getDenseGraph();
+            this.edges = generated.getDenseGraphEdges();
+            this.compactGraph = generated.getDenseCompactGraph();
+        }
+
+        SplittableRandom random = new SplittableRandom(SEED);
+        this.sources = new int[NUMBER_OF_SOURCES];
+        for(int i=0; i<NUMBER_OF_SOURCES; ++i)
+            this.sources[i] = random.nextInt(this.vertices);
+    }
+
+    /**
+     * Method to get the source of the next search, cycling through the fixed sources.
+     *
+     * @return - Index of the source vertex.
+     */
+    public int nextSource(){
+        int source = this.sources[this.nextSource];
+        this.nextSource = (this.nextSource + 1) % this.sources.length;
+        return source;
+    }
+
+    /**
+     * Method to reset the Vertex based graph so the next search starts from scratch.
+     */
+    public void reset(){
+        for(Vertex v : this.graph)
+            v.reset();
+    }
+}
@@ -0,0 +1,90 @@
+package com.main.Benchmark;
+
+import com.main.Graph.Graph;
+import com.main.Heap.MaxPriorityQueue;
+import com.main.Heap.QueueType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Raw priority queue operations on the same fixed key sequences for every queue type. Scores are per element,
+ * so a benchmark of n inserts and n deletes reports the cost of one insert plus one delete.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HeapBenchmark {
+
+    private static final int SIZE = 100000;
+
+    @Param({"BINARY_HEAP", "FOUR_ARY_HEAP", "PAIRING_HEAP", "BUCKET_QUEUE"})
+    public QueueType queueType;
+
+    private MaxPriorityQueue queue;
+
+    private int[] keys;
+
+    private int[] increasedKeys;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.queue = this.queueType.create(SIZE, Graph.MAX_WEIGHT);
+        SplittableRandom random = new SplittableRandom(GraphState.SEED);
+        this.keys = new int[SIZE];
+        this.increasedKeys = new int[SIZE];
+        for(int i=0; i<SIZE; ++i){
+            this.keys[i] = random.nextInt(Graph.MAX_WEIGHT / 2) + 1;
+            this.increasedKeys[i] = this.keys[i] + random.nextInt(Graph.MAX_WEIGHT / 2);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int insertAndDeleteMax() {
+        MaxPriorityQueue queue = this.queue;
+        queue.clear();
+        for(int i=0; i<SIZE; ++i)
+            queue.insert(i, this.keys[i]);
+        int last = 0;
+        while(queue.getHeapSize() > 0){
+            last = queue.maxId();
+            queue.delete(last);
+        }
+        return last;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int insertAdjustAndDeleteMax() {
+        MaxPriorityQueue queue = this.queue;
+        queue.clear();
+        for(int i=0; i<SIZE; ++i)
+            queue.insert(i, this.keys[i]);
+        //Searches only ever increase a key, as a fringe vertex gets a wider path
+        for(int i=0; i<SIZE; ++i)
+            queue.adjust(i, this.increasedKeys[i]);
+        int last = 0;
+        while(queue.getHeapSize() > 0){
+            last = queue.maxId();
+            queue.delete(last);
+        }
+        return last;
+    }
+}
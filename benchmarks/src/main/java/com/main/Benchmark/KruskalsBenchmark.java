@@ -0,0 +1,41 @@
+package com.main.Benchmark;
+
+import com.main.Algo.Boruvka;
+import com.main.Algo.Kruskals;
+import com.main.Graph.CompactGraph;
+import com.main.Graph.Vertex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maximum spanning tree construction with the Vertex based Kruskals and the CSR Kruskals and Boruvka engines.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class KruskalsBenchmark {
+
+    @Benchmark
+    public Vertex[] kruskals(GraphState state) {
+        return new Kruskals(state.vertices).kruskals(state.graph, state.edges, state.vertices, state.density, new double[1]);
+    }
+
+    @Benchmark
+    public CompactGraph kruskalsCompact(GraphState state) {
+        return Kruskals.maximumSpanningTree(state.compactGraph);
+    }
+
+    @Benchmark
+    public CompactGraph boruvkaCompact(GraphState state) {
+        return new Boruvka().maximumSpanningTree(state.compactGraph);
+    }
+}
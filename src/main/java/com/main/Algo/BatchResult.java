@@ -0,0 +1,72 @@
+package com.main.Algo;
+
+/**
+ * Answers of a batch of maximum bandwidth queries, in the same order as the queries were given.
+ */
+public class BatchResult {
+
+    private final int[] sources;
+
+    private final int[] destinations;
+
+    private final int[] bandwidths;
+
+    private final int[][] paths;
+
+    private final int numberOfSearches;
+
+    /**
+     * Constructor to create the answers of a batch.
+     *
+     * @param sources - Source vertex of every query.
+     * @param destinations - Destination vertex of every query.
+     * @param bandwidths - Maximum bandwidth of every query, 0 if the destination is unreachable.
+     * @param paths - Path of every query, empty if the destination is unreachable.
+     * @param numberOfSearches - Number of searches run to answer the batch.
+     */
+    BatchResult(int[] sources, int[] destinations, int[] bandwidths, int[][] paths, int numberOfSearches){
+        this.sources = sources;
+        this.destinations = destinations;
+        this.bandwidths = bandwidths;
+        this.paths = paths;
+        this.numberOfSearches = numberOfSearches;
+    }
+
+    public int size() {
+        return this.bandwidths.length;
+    }
+
+    public int getSource(int i) {
+        return this.sources[i];
+    }
+
+    public int getDestination(int i) {
+        return this.destinations[i];
+    }
+
+    public int getBandwidth(int i) {
+        return this.bandwidths[i];
+    }
+
+    public int[] getPath(int i) {
+        return this.paths[i];
+    }
+
+    /**
+     * Method to get the answer of one query of the batch.
+     *
+     * @param i - Index of the query in the batch.
+     * @return - Maximum bandwidth and path of the query.
+     */
+    public PathResult get(int i) {
+        return new PathResult(this.bandwidths[i], this.paths[i]);
+    }
+
+    public int[] getBandwidths() {
+        return this.bandwidths.clone();
+    }
+
+    public int getNumberOfSearches() {
+        return this.numberOfSearches;
+    }
+}
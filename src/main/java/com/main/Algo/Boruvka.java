@@ -0,0 +1,154 @@
+package com.main.Algo;
+
+import com.main.Graph.CompactGraph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Parallel Boruvka maximum spanning tree engine. Every round, each component picks its heaviest outgoing
+ * edge, scanned in parallel over vertex ranges on a ForkJoinPool, and all the picked edges are added at
+ * once, so at most log n rounds are needed.
+ * Edges are compared by (weight, edge index) with the same edge numbering as Kruskals, which makes the
+ * maximum spanning tree unique and this engine returns exactly the tree Kruskals.maximumSpanningTree returns.
+ */
+public class Boruvka {
+
+    private final ForkJoinPool pool;
+
+    public Boruvka(){
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor to run the parallel phases on the given pool.
+     *
+     * @param pool - ForkJoinPool used for the edge scans.
+     */
+    public Boruvka(ForkJoinPool pool){
+        this.pool = pool;
+    }
+
+    /**
+     * This method runs the Boruvka's algorithm and prints its execution time.
+     * Time Complexity: O(m * log n) work, spread over all the threads of the pool.
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @param typeOfGraph - String to specify whether the algorithm is being run on sparse or dense graph.
+     * @return - Maximum spanning tree (forest for disconnected graphs) in CSR form.
+     */
+    public CompactGraph boruvka(CompactGraph graph, String typeOfGraph, double[] runtime){
+        long start = System.currentTimeMillis();
+        CompactGraph T = maximumSpanningTree(graph);
+        runtime[0] = Helper.endTimerAndPrintStats(start, "Boruvka", typeOfGraph);
+
+        return T;
+    }
+
+    /**
+     * This method builds the maximum spanning tree of a CompactGraph without printing any stats.
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @return - Maximum spanning tree (forest for disconnected graphs) in CSR form.
+     */
+    public CompactGraph maximumSpanningTree(CompactGraph graph){
+        int numberOfVertices = graph.getNumberOfVertices();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] weights = graph.getWeights();
+        int threshold = Math.max(1024, numberOfVertices / (8 * this.pool.getParallelism()));
+
+        //Number the undirected edges like Kruskals: by u, then by v, keeping only the arcs with u < v
+        int[] firstEdge = new int[numberOfVertices + 1];
+        for(int u=0; u<numberOfVertices; ++u){
+            int forwardArcs = offsets[u+1] - upperArc(offsets, targets, u);
+            firstEdge[u+1] = firstEdge[u] + forwardArcs;
+        }
+        int numberOfEdges = firstEdge[numberOfVertices];
+        int[] edgeU = new int[numberOfEdges];
+        int[] edgeV = new int[numberOfEdges];
+        int[] edgeOfArc = new int[targets.length];
+        this.pool.invoke(new RangeTask(0, numberOfVertices, threshold, (from, to) -> {
+            for(int u=from; u<to; ++u){
+                int edge = firstEdge[u];
+                for(int arc = upperArc(offsets, targets, u); arc < offsets[u+1]; ++arc){
+                    edgeU[edge] = u; edgeV[edge] = targets[arc];
+                    edgeOfArc[arc] = edge++;
+                }
+            }
+        }));
+        this.pool.invoke(new RangeTask(0, numberOfVertices, threshold, (from, to) -> {
+            for(int u=from; u<to; ++u)
+                for(int arc = offsets[u]; arc < offsets[u+1] && targets[arc] < u; ++arc)
+                    edgeOfArc[arc] = edgeOfArc[graph.findArc(targets[arc], u)];
+        }));
+
+        DisjointSet sets = new DisjointSet(numberOfVertices);
+        int[] component = new int[numberOfVertices];
+        for(int v=0; v<numberOfVertices; ++v)
+            component[v] = v;
+        AtomicLongArray best = new AtomicLongArray(numberOfVertices);
+
+        int[] treeU = new int[Math.max(numberOfVertices-1, 0)];
+        int[] treeV = new int[treeU.length];
+        int[] treeW = new int[treeU.length];
+        int treeSize = 0;
+        boolean merged = true;
+        while(merged && treeSize < treeU.length){
+            for(int c=0; c<numberOfVertices; ++c)
+                best.set(c, -1);
+
+            //Heaviest edge leaving every component, packed as (weight << 32 | edge index)
+            this.pool.invoke(new RangeTask(0, numberOfVertices, threshold, (from, to) -> {
+                for(int u=from; u<to; ++u){
+                    int cu = component[u];
+                    long localBest = -1;
+                    for(int arc = offsets[u]; arc < offsets[u+1]; ++arc){
+                        if(component[targets[arc]] == cu)
+                            continue;
+                        long key = ((long) weights[arc] << 32) | edgeOfArc[arc];
+                        if(key > localBest)
+                            localBest = key;
+                    }
+                    if(localBest == -1)
+                        continue;
+                    long current = best.get(cu);
+                    while(localBest > current && !best.compareAndSet(cu, current, localBest))
+                        current = best.get(cu);
+                }
+            }));
+
+            merged = false;
+            for(int c=0; c<numberOfVertices; ++c){
+                long key = best.get(c);
+                if(key == -1)
+                    continue;
+                int edge = (int) key;
+                if(sets.union(edgeU[edge], edgeV[edge])){
+                    treeU[treeSize] = edgeU[edge]; treeV[treeSize] = edgeV[edge]; treeW[treeSize] = (int) (key >>> 32);
+                    treeSize++;
+                    merged = true;
+                }
+            }
+            for(int v=0; v<numberOfVertices; ++v)
+                component[v] = sets.find(v);
+        }
+        Metrics.global().recordUnionFind(sets);
+
+        return CompactGraph.fromEdges(numberOfVertices, treeU, treeV, treeW, treeSize);
+    }
+
+    /**
+     * Method to find the first arc of u going to a vertex with a larger id. Rows are sorted by target.
+     *
+     * @param offsets - Row offsets array.
+     * @param targets - Target vertex of every arc.
+     * @param u - Vertex whose row is searched.
+     * @return - Index of the first arc of u with target > u.
+     */
+    private static int upperArc(int[] offsets, int[] targets, int u){
+        int index = Arrays.binarySearch(targets, offsets[u], offsets[u+1], u);
+        return (index >= 0) ? index + 1 : -(index + 1);
+    }
+}
@@ -0,0 +1,212 @@
+package com.main.Algo;
+
+import com.main.Graph.CompactGraph;
+import com.main.Graph.MappedGraph;
+
+/**
+ * Reusable index answering maximum bandwidth queries from a precomputed maximum spanning tree. The widest
+ * path between any two vertices is their path in the maximum spanning tree, so the bottleneck is the
+ * lightest tree edge between them. Binary lifting tables store the 2^k-th ancestor of every vertex and the
+ * lightest edge on the way to it, which answers a query in O(log n) without touching the graph.
+ */
+public class BottleneckIndex {
+
+    private final CompactGraph tree;
+
+    private final int[] depth;
+
+    private final int[] component;
+
+    private final int[][] up;
+
+    private final int[][] minWeight;
+
+    /**
+     * Constructor to build the lifting tables over an already computed maximum spanning tree or forest.
+     * Time Complexity: O(n * log n)
+     *
+     * @param tree - Maximum spanning tree (or forest) in CSR form.
+     */
+    public BottleneckIndex(CompactGraph tree){
+        this.tree = tree;
+        int numberOfVertices = tree.getNumberOfVertices();
+        int levels = 1;
+        while((1 << levels) < numberOfVertices)
+            levels++;
+
+        this.depth = new int[numberOfVertices];
+        this.component = new int[numberOfVertices];
+        this.up = new int[levels][numberOfVertices];
+        this.minWeight = new int[levels][numberOfVertices];
+        labelTree();
+
+        for(int k=1; k<levels; ++k){
+            int[] previousUp = this.up[k-1];
+            int[] previousMin = this.minWeight[k-1];
+            for(int v=0; v<numberOfVertices; ++v){
+                int half = previousUp[v];
+                this.up[k][v] = previousUp[half];
+                this.minWeight[k][v] = Math.min(previousMin[v], previousMin[half]);
+            }
+        }
+    }
+
+    /**
+     * This method builds the maximum spanning tree of the graph once and indexes it.
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @return - The newly created BottleneckIndex.
+     */
+    public static BottleneckIndex fromGraph(CompactGraph graph){
+        return new BottleneckIndex(Kruskals.maximumSpanningTree(graph));
+    }
+
+    /**
+     * This method builds the maximum spanning tree of a memory-mapped graph once and indexes it. Only the
+     * tree is kept in the heap, the graph can be unmapped afterwards.
+     *
+     * @param graph - MappedGraph which represents the entire graph.
+     * @return - The newly created BottleneckIndex.
+     */
+    public static BottleneckIndex fromGraph(MappedGraph graph){
+        return new BottleneckIndex(Kruskals.maximumSpanningTree(graph));
+    }
+
+    /**
+     * Iterative breadth first search from the lowest vertex of every tree to fill depth, component and the
+     * parent level of the lifting tables. Roots point to themselves with an infinite edge.
+     */
+    private void labelTree(){
+        int numberOfVertices = this.tree.getNumberOfVertices();
+        int[] offsets = this.tree.getOffsets();
+        int[] targets = this.tree.getTargets();
+        int[] weights = this.tree.getWeights();
+        int[] queue = new int[numberOfVertices];
+        boolean[] seen = new boolean[numberOfVertices];
+
+        for(int root=0; root<numberOfVertices; ++root){
+            if(seen[root])
+                continue;
+
+            seen[root] = true;
+            this.up[0][root] = root;
+            this.minWeight[0][root] = Integer.MAX_VALUE;
+            this.component[root] = root;
+            int head = 0, tail = 0;
+            queue[tail++] = root;
+            while(head < tail){
+                int v = queue[head++];
+                for(int arc = offsets[v]; arc < offsets[v+1]; ++arc){
+                    int w = targets[arc];
+                    if(seen[w])
+                        continue;
+                    seen[w] = true;
+                    this.up[0][w] = v;
+                    this.minWeight[0][w] = weights[arc];
+                    this.depth[w] = this.depth[v] + 1;
+                    this.component[w] = root;
+                    queue[tail++] = w;
+                }
+            }
+        }
+    }
+
+    /**
+     * Method to find the maximum bandwidth between two vertices.
+     * Time Complexity: O(log n)
+     *
+     * @param sourceIndex - Index of the source vertex.
+     * @param destinationIndex - Index of the destination vertex.
+     * @return - The maximum bandwidth, Integer.MAX_VALUE if both are the same vertex and 0 if unreachable.
+     */
+    public int maxBandwidth(int sourceIndex, int destinationIndex){
+        long start = System.nanoTime();
+        int bandwidth = bottleneck(sourceIndex, destinationIndex);
+        Metrics.global().recordQuery(start);
+        return bandwidth;
+    }
+
+    /**
+     * Method to find the lightest tree edge between two vertices with the lifting tables.
+     *
+     * @param sourceIndex - Index of the source vertex.
+     * @param destinationIndex - Index of the destination vertex.
+     * @return - The maximum bandwidth, Integer.MAX_VALUE if both are the same vertex and 0 if unreachable.
+     */
+    private int bottleneck(int sourceIndex, int destinationIndex){
+        if(this.component[sourceIndex] != this.component[destinationIndex])
+            return 0;
+
+        int u = sourceIndex, v = destinationIndex;
+        int bottleneck = Integer.MAX_VALUE;
+        if(this.depth[u] < this.depth[v]) {
+            int temp = u; u = v; v = temp;
+        }
+
+        //Lift the deeper vertex to the depth of the other one
+        int difference = this.depth[u] - this.depth[v];
+        for(int k=0; difference != 0; ++k, difference >>= 1){
+            if((difference & 1) != 0){
+                bottleneck = Math.min(bottleneck, this.minWeight[k][u]);
+                u = this.up[k][u];
+            }
+        }
+        if(u == v)
+            return bottleneck;
+
+        //Lift both vertices to just below their lowest common ancestor
+        for(int k=this.up.length-1; k>=0; --k){
+            if(this.up[k][u] != this.up[k][v]){
+                bottleneck = Math.min(bottleneck, Math.min(this.minWeight[k][u], this.minWeight[k][v]));
+                u = this.up[k][u];
+                v = this.up[k][v];
+            }
+        }
+        return Math.min(bottleneck, Math.min(this.minWeight[0][u], this.minWeight[0][v]));
+    }
+
+    /**
+     * Method to find the maximum bandwidth path between two vertices by walking the tree parents.
+     * Time Complexity: O(length of the path)
+     *
+     * @param sourceIndex - Index of the source vertex.
+     * @param destinationIndex - Index of the destination vertex.
+     * @return - Maximum bandwidth and path from source to destination.
+     */
+    public PathResult query(int sourceIndex, int destinationIndex){
+        long start = System.nanoTime();
+        PathResult result = path(sourceIndex, destinationIndex);
+        Metrics.global().recordQuery(start);
+        return result;
+    }
+
+    private PathResult path(int sourceIndex, int destinationIndex){
+        if(this.component[sourceIndex] != this.component[destinationIndex])
+            return new PathResult(0, new int[0]);
+
+        int[] parent = this.up[0];
+        int u = sourceIndex, v = destinationIndex;
+        int uSteps = 0, vSteps = 0;
+        while(u != v){
+            if(this.depth[u] >= this.depth[v]) {
+                u = parent[u]; uSteps++;
+            } else {
+                v = parent[v]; vSteps++;
+            }
+        }
+
+        int[] path = new int[uSteps + vSteps + 1];
+        u = sourceIndex;
+        for(int i=0; i<=uSteps; ++i, u = parent[u])
+            path[i] = u;
+        v = destinationIndex;
+        for(int i=path.length-1; i>uSteps; --i, v = parent[v])
+            path[i] = v;
+
+        return new PathResult(bottleneck(sourceIndex, destinationIndex), path);
+    }
+
+    public CompactGraph getTree() {
+        return this.tree;
+    }
+}
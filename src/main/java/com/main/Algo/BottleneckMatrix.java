@@ -0,0 +1,313 @@
+package com.main.Algo;
+
+import com.main.Graph.CompactGraph;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Maximum bandwidth from a set of sources to every vertex, stored as one row of ints per source. The rows are
+ * filled in parallel by walking the maximum spanning tree once per source, O(n) per row and O(n^2) for all
+ * pairs, instead of one full search per pair.
+ *
+ * Matrices are kept in an int array when they fit, or spilled to a file which is memory-mapped window by
+ * window, so matrices larger than the heap can be built and reopened later. Matrix files are little endian:
+ *
+ *   magic "BWM1", version, numberOfRows, numberOfVertices, sources[numberOfRows], rows[numberOfRows][numberOfVertices]
+ */
+public class BottleneckMatrix {
+
+    private static final int MAGIC = 0x314D5742; // "BWM1" in little endian
+
+    private static final int VERSION = 1;
+
+    private static final int HEADER_INTS = 4;
+
+    private static final long WINDOW_BYTES = 1L << 30;
+
+    private final int numberOfVertices;
+
+    private final int[] sources;
+
+    //Row of every vertex, -1 for vertices which are not a source
+    private final int[] rowOf;
+
+    private final int[] values;
+
+    private final IntBuffer[] windows;
+
+    private final int rowsPerWindow;
+
+    private BottleneckMatrix(int numberOfVertices, int[] sources, int[] values, IntBuffer[] windows, int rowsPerWindow){
+        this.numberOfVertices = numberOfVertices;
+        this.sources = sources;
+        this.values = values;
+        this.windows = windows;
+        this.rowsPerWindow = rowsPerWindow;
+        this.rowOf = new int[numberOfVertices];
+        Arrays.fill(this.rowOf, -1);
+        for(int row=0; row<sources.length; ++row)
+            this.rowOf[sources[row]] = row;
+    }
+
+    /**
+     * This method computes the all pairs matrix in memory.
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @return - Matrix with one row per vertex.
+     */
+    public static BottleneckMatrix compute(CompactGraph graph){
+        return compute(graph, allVertices(graph.getNumberOfVertices()));
+    }
+
+    /**
+     * This method computes the rows of the given sources in memory.
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @param sources - Distinct source vertices, one row each.
+     * @return - Matrix with one row per source.
+     * @throws IllegalArgumentException - If a source is not a distinct vertex of the graph, or if the matrix does
+     *                                    not fit in an int array, spill it to a file instead.
+     */
+    public static BottleneckMatrix compute(CompactGraph graph, int[] sources){
+        int n = graph.getNumberOfVertices();
+        String invalid = invalidSource(sources, n);
+        if(invalid != null)
+            throw new IllegalArgumentException(invalid);
+        if((long) sources.length * n > Integer.MAX_VALUE - 8)
+            throw new IllegalArgumentException("Matrix of " + sources.length + " x " + n + " does not fit in memory, use a file");
+
+        int[] values = new int[sources.length * n];
+        CompactGraph tree = Kruskals.maximumSpanningTree(graph);
+        fillRows(tree, sources, (row, bandwidth) -> System.arraycopy(bandwidth, 0, values, row * n, n));
+        return new BottleneckMatrix(n, sources.clone(), values, null, 0);
+    }
+
+    /**
+     * This method computes the all pairs matrix straight into a file, replacing the file if it already exists.
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @param file - Matrix file.
+     * @return - Matrix backed by the file.
+     * @throws IOException - If the file can not be written.
+     */
+    public static BottleneckMatrix compute(CompactGraph graph, Path file) throws IOException {
+        return compute(graph, allVertices(graph.getNumberOfVertices()), file);
+    }
+
+    /**
+     * This method computes the rows of the given sources straight into a file, replacing the file if it already
+     * exists. Rows are written straight into the mapped file, so the matrix does not need to fit in the heap.
+     * The rows are forced to disk before the header, so a file whose writing was interrupted is never taken for
+     * a complete matrix by open.
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @param sources - Distinct source vertices, one row each.
+     * @param file - Matrix file.
+     * @return - Matrix backed by the file.
+     * @throws IOException - If the file can not be written.
+     * @throws IllegalArgumentException - If a source is not a distinct vertex of the graph.
+     */
+    public static BottleneckMatrix compute(CompactGraph graph, int[] sources, Path file) throws IOException {
+        int n = graph.getNumberOfVertices();
+        String invalid = invalidSource(sources, n);
+        if(invalid != null)
+            throw new IllegalArgumentException(invalid);
+        CompactGraph tree = Kruskals.maximumSpanningTree(graph);
+
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long headerBytes = (long) (HEADER_INTS + sources.length) * Integer.BYTES;
+            MappedByteBuffer[] mapped = mapWindows(channel, FileChannel.MapMode.READ_WRITE, headerBytes, sources.length, n);
+            IntBuffer[] windows = asInts(mapped);
+            int rowsPerWindow = rowsPerWindow(n);
+            fillRows(tree, sources, (row, bandwidth) ->
+                    windows[row / rowsPerWindow].put((row % rowsPerWindow) * n, bandwidth, 0, n));
+            for(MappedByteBuffer window : mapped)
+                window.force();
+
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, headerBytes);
+            IntBuffer headerInts = asInts(header);
+            headerInts.put(new int[]{MAGIC, VERSION, sources.length, n});
+            headerInts.put(sources);
+            header.force();
+        }
+        return open(file);
+    }
+
+    /**
+     * This method reopens a matrix file written by compute.
+     *
+     * @param file - Matrix file.
+     * @return - Matrix backed by the file.
+     * @throws IOException - If the file can not be read, is not a matrix file or its sources are not distinct
+     *                       vertices.
+     */
+    public static BottleneckMatrix open(Path file) throws IOException {
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if(channel.size() < HEADER_INTS * Integer.BYTES)
+                throw new IOException("Not a matrix file: " + file);
+            IntBuffer header = map(channel, FileChannel.MapMode.READ_ONLY, 0, HEADER_INTS * Integer.BYTES);
+            if(header.get(0) != MAGIC || header.get(1) != VERSION)
+                throw new IOException("Not a matrix file: " + file);
+
+            int numberOfRows = header.get(2);
+            int n = header.get(3);
+            long headerBytes = (long) (HEADER_INTS + numberOfRows) * Integer.BYTES;
+            if(numberOfRows < 0 || n < 0 || channel.size() != headerBytes + (long) numberOfRows * n * Integer.BYTES)
+                throw new IOException("Truncated or corrupted matrix file: " + file);
+
+            int[] sources = new int[numberOfRows];
+            map(channel, FileChannel.MapMode.READ_ONLY, HEADER_INTS * Integer.BYTES, (long) numberOfRows * Integer.BYTES).get(sources);
+            String invalid = invalidSource(sources, n);
+            if(invalid != null)
+                throw new IOException("Corrupted matrix file, " + invalid + ": " + file);
+            //Mappings stay valid after the channel is closed
+            return new BottleneckMatrix(n, sources, null,
+                    asInts(mapWindows(channel, FileChannel.MapMode.READ_ONLY, headerBytes, numberOfRows, n)), rowsPerWindow(n));
+        }
+    }
+
+    /**
+     * Method to find the maximum bandwidth between a source of the matrix and any vertex.
+     * Time Complexity: O(1)
+     *
+     * @param sourceIndex - Index of a source vertex of the matrix.
+     * @param destinationIndex - Index of the destination vertex.
+     * @return - The maximum bandwidth, Integer.MAX_VALUE if both are the same vertex and 0 if unreachable.
+     * @throws IllegalArgumentException - If the source is not a source of the matrix or the destination is not a
+     *                                    vertex.
+     */
+    public int get(int sourceIndex, int destinationIndex){
+        if(sourceIndex < 0 || sourceIndex >= this.numberOfVertices || this.rowOf[sourceIndex] < 0)
+            throw new IllegalArgumentException("Vertex " + sourceIndex + " is not a source of this matrix");
+        if(destinationIndex < 0 || destinationIndex >= this.numberOfVertices)
+            throw new IllegalArgumentException("Vertex " + destinationIndex + " out of range [0, " + this.numberOfVertices + ")");
+        int row = this.rowOf[sourceIndex];
+        if(this.values != null)
+            return this.values[row * this.numberOfVertices + destinationIndex];
+        return this.windows[row / this.rowsPerWindow].get((row % this.rowsPerWindow) * this.numberOfVertices + destinationIndex);
+    }
+
+    public int getNumberOfVertices() {
+        return this.numberOfVertices;
+    }
+
+    public int getNumberOfRows() {
+        return this.sources.length;
+    }
+
+    public int[] getSources() {
+        return this.sources.clone();
+    }
+
+    /**
+     * Receives every finished row, rows are filled concurrently so implementations must only touch their row.
+     */
+    private interface RowSink {
+        void accept(int row, int[] bandwidth);
+    }
+
+    /**
+     * Method to compute the rows of all sources in parallel over the maximum spanning tree, labelling the tree
+     * once per source. Every task keeps its own scratch arrays and hands each finished row to the sink.
+     *
+     * @param tree - Maximum spanning forest of the graph.
+     * @param sources - Source of every row.
+     * @param sink - Receiver of the rows.
+     */
+    private static void fillRows(CompactGraph tree, int[] sources, RowSink sink){
+        int n = tree.getNumberOfVertices();
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int threshold = Math.max(1, sources.length / (8 * pool.getParallelism()));
+
+        pool.invoke(new RangeTask(0, sources.length, threshold, (from, to) -> {
+            int[] bandwidth = new int[n];
+            int[] parent = new int[n];
+            int[] stack = new int[n];
+            for(int row=from; row<to; ++row){
+                //Vertices of other trees are not labelled, so they must not keep the previous row
+                int source = sources[row];
+                Arrays.fill(bandwidth, 0);
+                bandwidth[source] = Integer.MAX_VALUE;
+                parent[source] = -1;
+                stack = TreeLabeler.labelSubtree(tree, source, bandwidth, parent, stack);
+                sink.accept(row, bandwidth);
+            }
+        }));
+    }
+
+    /**
+     * Method to check that every source is a vertex and appears only once, since every vertex maps to one row.
+     *
+     * @param sources - Source of every row.
+     * @param n - Number of vertices.
+     * @return - Description of the first invalid source, or null if all are valid.
+     */
+    private static String invalidSource(int[] sources, int n){
+        boolean[] seen = new boolean[n];
+        for(int source : sources){
+            if(source < 0 || source >= n)
+                return "source " + source + " out of range [0, " + n + ")";
+            if(seen[source])
+                return "source " + source + " appears twice";
+            seen[source] = true;
+        }
+        return null;
+    }
+
+    private static int[] allVertices(int n){
+        int[] vertices = new int[n];
+        for(int v=0; v<n; ++v)
+            vertices[v] = v;
+        return vertices;
+    }
+
+    private static int rowsPerWindow(int n){
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, WINDOW_BYTES / Math.max(1, (long) n * Integer.BYTES)));
+    }
+
+    /**
+     * Method to map the rows of a matrix file in windows holding whole rows.
+     *
+     * @param channel - Open matrix file.
+     * @param mode - Mapping mode.
+     * @param position - Byte position of the first row.
+     * @param numberOfRows - Number of rows.
+     * @param n - Number of ints per row.
+     * @return - One mapped buffer per window.
+     * @throws IOException - If the file can not be mapped.
+     */
+    private static MappedByteBuffer[] mapWindows(FileChannel channel, FileChannel.MapMode mode, long position,
+                                                 int numberOfRows, int n) throws IOException {
+        int rowsPerWindow = rowsPerWindow(n);
+        MappedByteBuffer[] windows = new MappedByteBuffer[(numberOfRows + rowsPerWindow - 1) / rowsPerWindow];
+        for(int i=0; i<windows.length; ++i){
+            int rows = Math.min(rowsPerWindow, numberOfRows - i * rowsPerWindow);
+            windows[i] = channel.map(mode, position + (long) i * rowsPerWindow * n * Integer.BYTES, (long) rows * n * Integer.BYTES);
+        }
+        return windows;
+    }
+
+    private static IntBuffer[] asInts(MappedByteBuffer[] buffers){
+        IntBuffer[] ints = new IntBuffer[buffers.length];
+        for(int i=0; i<buffers.length; ++i)
+            ints[i] = asInts(buffers[i]);
+        return ints;
+    }
+
+    private static IntBuffer asInts(MappedByteBuffer buffer){
+        return buffer.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+
+    private static IntBuffer map(FileChannel channel, FileChannel.MapMode mode, long position, long size) throws IOException {
+        return asInts(channel.map(mode, position, size));
+    }
+}
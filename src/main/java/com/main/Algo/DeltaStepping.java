@@ -0,0 +1,286 @@
+package com.main.Algo;
+
+import com.main.Graph.CompactGraph;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Parallel maximum bandwidth search in the style of delta-stepping. Labels are split in buckets of delta
+ * bandwidth values and the buckets are processed from the widest down. Inside a bucket every frontier vertex
+ * is relaxed concurrently on a ForkJoinPool, and vertices whose label improves but stays in the bucket form
+ * the next frontier, until the bucket stops changing. Every label in the bucket is then final, because only
+ * wider labels can improve it and those were all settled by the earlier buckets.
+ *
+ * Labels are packed as (bandwidth << 32 | dad) in an AtomicLongArray and only ever raised by compareAndSet,
+ * so the bandwidths are exactly those of Dijkstras.withHeap. Paths may differ when several are equally wide.
+ */
+public class DeltaStepping {
+
+    public static final int DEFAULT_NUMBER_OF_BUCKETS = 64;
+
+    private final ForkJoinPool pool;
+
+    private final int numberOfBuckets;
+
+    public DeltaStepping(){
+        this(ForkJoinPool.commonPool(), DEFAULT_NUMBER_OF_BUCKETS);
+    }
+
+    /**
+     * Constructor to run the searches on the given pool.
+     *
+     * @param pool - ForkJoinPool used for the relaxations and the bucket scans.
+     * @param numberOfBuckets - Number of buckets the weight range is split in, fewer buckets give larger
+     *                          frontiers but more vertices relaxed more than once.
+     */
+    public DeltaStepping(ForkJoinPool pool, int numberOfBuckets){
+        if(numberOfBuckets <= 0)
+            throw new IllegalArgumentException("numberOfBuckets must be positive");
+        this.pool = pool;
+        this.numberOfBuckets = numberOfBuckets;
+    }
+
+    /**
+     * This method runs the delta-stepping search and prints its execution time.
+     * Time Complexity: O(m) work per bucket pass, spread over all the threads of the pool.
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @param sourceIndex - Index of the selected source vertex.
+     * @param typeOfGraph - String to specify whether the algorithm is being run on sparse or dense graph.
+     * @return - Maximum bandwidth tree of the source.
+     */
+    public SourceTree deltaStepping(CompactGraph graph, int sourceIndex, String typeOfGraph, double[] runtime){
+        long start = System.currentTimeMillis();
+        SourceTree tree = search(graph, sourceIndex);
+        runtime[0] = Helper.endTimerAndPrintStats(start, "Delta Stepping", typeOfGraph);
+
+        return tree;
+    }
+
+    /**
+     * This method builds the complete maximum bandwidth tree of the source.
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @param sourceIndex - Index of the selected source vertex.
+     * @return - Maximum bandwidth tree of the source.
+     */
+    public SourceTree search(CompactGraph graph, int sourceIndex){
+        return new Search(graph, sourceIndex, -1).run();
+    }
+
+    /**
+     * This method answers a single point to point query. The search stops after the bucket holding the
+     * destination, because its bandwidth is final from then on.
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @param sourceIndex - Index of the selected source vertex.
+     * @param destinationIndex - Index of the selected destination vertex.
+     * @return - Maximum bandwidth and path from source to destination.
+     */
+    public PathResult query(CompactGraph graph, int sourceIndex, int destinationIndex){
+        long start = System.nanoTime();
+        PathResult result = new Search(graph, sourceIndex, destinationIndex).run().query(destinationIndex);
+        Metrics.global().recordQuery(start);
+        return result;
+    }
+
+    public int getNumberOfBuckets() {
+        return this.numberOfBuckets;
+    }
+
+    private static long pack(int bandwidth, int dad){
+        return ((long) bandwidth << 32) | (dad & 0xFFFFFFFFL);
+    }
+
+    private static int bandwidthOf(long label){
+        return (int) (label >>> 32);
+    }
+
+    /**
+     * State of one search, shared by all the tasks working on it.
+     */
+    private class Search {
+        private final int n;
+        private final int[] offsets;
+        private final int[] targets;
+        private final int[] weights;
+        private final int source;
+        private final int destination;
+        private final int delta;
+        private final int threshold;
+
+        //(bandwidth << 32 | dad) of every vertex, 0 for unreached vertices
+        private final AtomicLongArray labels;
+
+        //Round in which every vertex was last put in a frontier, so it is put there at most once per round
+        private final AtomicIntegerArray queuedRound;
+
+        private int[] frontier;
+        private int[] nextFrontier;
+        private final AtomicInteger nextSize = new AtomicInteger();
+        private int round;
+
+        //Added to once per task, the metrics are recorded once per search
+        private final LongAdder relaxed = new LongAdder();
+
+        Search(CompactGraph graph, int source, int destination){
+            this.n = graph.getNumberOfVertices();
+            this.offsets = graph.getOffsets();
+            this.targets = graph.getTargets();
+            this.weights = graph.getWeights();
+            this.source = source;
+            this.destination = destination;
+            this.delta = Math.max(1, (graph.getMaxWeight() + DeltaStepping.this.numberOfBuckets) / DeltaStepping.this.numberOfBuckets);
+            this.threshold = Math.max(1024, this.n / (8 * DeltaStepping.this.pool.getParallelism()));
+            this.labels = new AtomicLongArray(this.n);
+            this.queuedRound = new AtomicIntegerArray(this.n);
+            this.frontier = new int[this.n];
+            this.nextFrontier = new int[this.n];
+        }
+
+        SourceTree run(){
+            this.labels.set(this.source, pack(Integer.MAX_VALUE, -1));
+            if(this.source != this.destination) {
+                this.frontier[0] = this.source;
+                relaxBucket(1, Integer.MAX_VALUE);
+
+                //Every label >= settled is final
+                int settled = Integer.MAX_VALUE;
+                while(this.destination == -1 || bandwidthOf(this.labels.get(this.destination)) < settled){
+                    int widest = widestBelow(settled);
+                    if(widest == 0)
+                        break;
+                    int lowest = Math.max(1, widest - this.delta + 1);
+                    relaxBucket(collect(lowest, settled), lowest);
+                    settled = lowest;
+                }
+            }
+
+            int[] bandwidth = new int[this.n];
+            int[] dad = new int[this.n];
+            LongAdder reached = new LongAdder();
+            DeltaStepping.this.pool.invoke(new RangeTask(0, this.n, this.threshold, (from, to) -> {
+                int localReached = 0;
+                for(int v=from; v<to; ++v){
+                    long label = this.labels.get(v);
+                    bandwidth[v] = bandwidthOf(label);
+                    dad[v] = (label == 0) ? -1 : (int) label;
+                    if(label != 0)
+                        localReached++;
+                }
+                reached.add(localReached);
+            }));
+            Metrics.global().recordSearch(reached.sum(), this.relaxed.sum(), null);
+            return new SourceTree(this.source, bandwidth, dad);
+        }
+
+        /**
+         * Method to find the widest label which is not final yet.
+         *
+         * @param settled - Every label >= settled is final.
+         * @return - Widest label below settled, 0 if every reached vertex is final.
+         */
+        private int widestBelow(int settled){
+            AtomicInteger widest = new AtomicInteger();
+            DeltaStepping.this.pool.invoke(new RangeTask(0, this.n, this.threshold, (from, to) -> {
+                int localWidest = 0;
+                for(int v=from; v<to; ++v){
+                    int bandwidth = bandwidthOf(this.labels.get(v));
+                    if(bandwidth < settled && bandwidth > localWidest)
+                        localWidest = bandwidth;
+                }
+                widest.accumulateAndGet(localWidest, Math::max);
+            }));
+            return widest.get();
+        }
+
+        /**
+         * Method to put every vertex with a label in [lowest, settled) in the frontier.
+         *
+         * @param lowest - Smallest label of the bucket.
+         * @param settled - Every label >= settled is final.
+         * @return - Size of the frontier.
+         */
+        private int collect(int lowest, int settled){
+            AtomicInteger size = new AtomicInteger();
+            int[] frontier = this.frontier;
+            DeltaStepping.this.pool.invoke(new RangeTask(0, this.n, this.threshold, (from, to) -> {
+                int count = 0;
+                for(int v=from; v<to; ++v){
+                    int bandwidth = bandwidthOf(this.labels.get(v));
+                    if(bandwidth >= lowest && bandwidth < settled)
+                        count++;
+                }
+                int position = size.getAndAdd(count);
+                for(int v=from; v<to && count > 0; ++v){
+                    int bandwidth = bandwidthOf(this.labels.get(v));
+                    if(bandwidth >= lowest && bandwidth < settled) {
+                        frontier[position++] = v;
+                        count--;
+                    }
+                }
+            }));
+            return size.get();
+        }
+
+        /**
+         * Method to relax the frontier in parallel rounds until no label in the bucket improves anymore.
+         *
+         * @param size - Size of the frontier.
+         * @param lowest - Smallest label of the bucket, improved vertices below it wait for their own bucket.
+         */
+        private void relaxBucket(int size, int lowest){
+            while(size > 0){
+                int next = ++this.round;
+                int[] frontier = this.frontier;
+                int[] nextFrontier = this.nextFrontier;
+                this.nextSize.set(0);
+                int threshold = Math.max(1, Math.min(this.threshold, size / (8 * DeltaStepping.this.pool.getParallelism())));
+
+                DeltaStepping.this.pool.invoke(new RangeTask(0, size, threshold, (from, to) -> {
+                    long localRelaxed = 0;
+                    for(int i=from; i<to; ++i){
+                        int v = frontier[i];
+                        relax(v, lowest, next, nextFrontier);
+                        localRelaxed += this.offsets[v+1] - this.offsets[v];
+                    }
+                    this.relaxed.add(localRelaxed);
+                }));
+
+                size = this.nextSize.get();
+                this.frontier = nextFrontier;
+                this.nextFrontier = frontier;
+            }
+        }
+
+        /**
+         * Method to relax all the arcs of a frontier vertex. A label read while another task raises it is
+         * only too small, and the vertex is then relaxed again in the next round with the raised label.
+         *
+         * @param v - Frontier vertex.
+         * @param lowest - Smallest label of the bucket.
+         * @param next - Number of the next round.
+         * @param nextFrontier - Frontier of the next round.
+         */
+        private void relax(int v, int lowest, int next, int[] nextFrontier){
+            int vBandwidth = bandwidthOf(this.labels.get(v));
+            for(int arc = this.offsets[v]; arc < this.offsets[v+1]; ++arc){
+                int wMinBandWidth = Math.min(vBandwidth, this.weights[arc]);
+                int w = this.targets[arc];
+                long label = this.labels.get(w);
+                while(bandwidthOf(label) < wMinBandWidth){
+                    if(this.labels.compareAndSet(w, label, pack(wMinBandWidth, v))) {
+                        if(wMinBandWidth >= lowest && this.queuedRound.getAndSet(w, next) != next)
+                            nextFrontier[this.nextSize.getAndIncrement()] = w;
+                        break;
+                    }
+                    label = this.labels.get(w);
+                }
+            }
+        }
+    }
+}
@@ -1,25 +1,54 @@
 package com.main.Algo;
 
-import com.main.Heap.Heap;
+import com.main.Graph.CompactGraph;
 import com.main.Graph.Edge;
+import com.main.Graph.Graph;
+import com.main.Graph.MappedGraph;
+import com.main.Heap.MaxPriorityQueue;
+import com.main.Heap.QueueType;
 import com.main.Graph.Vertex;
 
-import java.util.LinkedList;
+import java.util.Arrays;
 
 public class Dijkstras {
-    private final static String IN_TREE = "intree";
-    private final static String FRINGER = "fringer";
-    private final static String UNSEEN = "unseen";
     int totalNumberOfVertices;
-    Heap heap;
+    QueueType queueType;
+    SearchEngine engine;
+    MaxPriorityQueue heap;
+    int[] fringers;
 
     public Dijkstras(int totalNumberOfVertices){
+        this(totalNumberOfVertices, QueueType.BINARY_HEAP, SearchEngine.AUTO);
+    }
+
+    /**
+     * Constructor to select the priority queue used by the heap based searches. The CSR searches always use the
+     * HEAP engine, so the chosen queue is the one measured.
+     *
+     * @param totalNumberOfVertices - Total number of vertices in the graph.
+     * @param queueType - Type of priority queue to use.
+     */
+    public Dijkstras(int totalNumberOfVertices, QueueType queueType){
+        this(totalNumberOfVertices, queueType, SearchEngine.HEAP);
+    }
+
+    /**
+     * Constructor to select the priority queue and the engine used by the CSR searches.
+     *
+     * @param totalNumberOfVertices - Total number of vertices in the graph.
+     * @param queueType - Type of priority queue to use.
+     * @param engine - Engine of the CSR searches, AUTO picks one by the density of every searched graph.
+     */
+    public Dijkstras(int totalNumberOfVertices, QueueType queueType, SearchEngine engine){
         this.totalNumberOfVertices = totalNumberOfVertices;
-        this.heap = new Heap(this.totalNumberOfVertices);
+        this.queueType = queueType;
+        this.engine = engine;
+        this.heap = queueType.create(this.totalNumberOfVertices, Graph.MAX_WEIGHT);
+        this.fringers = new int[totalNumberOfVertices];
     }
 
     /**
-     * This method runs the Dijkstras WITHOUT heap algorithm.
+     * This method runs the Dijkstras WITHOUT heap algorithm and prints its execution time.
      * Time Complexity: O(n^2)
      *
      * @param graph - Vertex object array which represents the entire graph.
@@ -28,53 +57,71 @@ public class Dijkstras {
      */
     public void withoutHeap(Vertex[] graph, int sourceIndex, String typeOfGraph, double[] runtime){
         long start = System.currentTimeMillis();
+        withoutHeap(graph, sourceIndex);
+        runtime[0] = Helper.endTimerAndPrintStats(start, "Dijkstras Without Heap", typeOfGraph);
+    }
+
+    /**
+     * This method runs the Dijkstras WITHOUT heap algorithm. The fringers are kept as ids in a preallocated
+     * array and removed by moving the last one into their place, so the search allocates nothing.
+     * Time Complexity: O(n^2)
+     *
+     * @param graph - Vertex object array which represents the entire graph, all vertices UNSEEN.
+     * @param sourceIndex - Index of the selected source vertex.
+     */
+    public void withoutHeap(Vertex[] graph, int sourceIndex){
+        if(this.fringers.length < graph.length)
+            this.fringers = new int[graph.length];
+        int[] fringers = this.fringers;
 
         Vertex source = graph[sourceIndex];
-        source.setStatus(IN_TREE);
+        source.setStatus(Vertex.IN_TREE);
         source.setBandwidth(Integer.MAX_VALUE);
         source.setDad(null);
 
-        LinkedList<Vertex> fringers = new LinkedList<>();;
         int numberOfFringers = 0;
+        long settled = 1, relaxed = source.getNeighbors().size();
         for(Edge edge : source.getNeighbors()){
             Vertex w = edge.getDestination();
-            w.setStatus(FRINGER);
+            w.setStatus(Vertex.FRINGER);
             w.setDad(source);
             w.setBandwidth(edge.getWeight());
-            fringers.add(w);
-            numberOfFringers++;
+            fringers[numberOfFringers++] = w.getId();
         }
 
         while(numberOfFringers != 0){
-            Vertex v = new Vertex(-1);
-            v.setBandwidth(Integer.MIN_VALUE);
-            for(Vertex fringe : fringers){
-                if(fringe.getBandwidth() > v.getBandwidth())
-                    v = fringe;
+            int maxIndex = 0;
+            for(int i=1; i<numberOfFringers; ++i){
+                if(graph[fringers[i]].getBandwidth() > graph[fringers[maxIndex]].getBandwidth())
+                    maxIndex = i;
             }
 
-            v.setStatus(IN_TREE); fringers.remove(v); numberOfFringers--;
+            Vertex v = graph[fringers[maxIndex]];
+            v.setStatus(Vertex.IN_TREE);
+            fringers[maxIndex] = fringers[--numberOfFringers];
+            settled++;
+            relaxed += v.getNeighbors().size();
 
             for(Edge edge : v.getNeighbors()){
                 int wMinBandWidth = Math.min(v.getBandwidth(), edge.getWeight());
                 Vertex w = edge.getDestination();
-                if(w.getStatus().equals(UNSEEN)){
-                    w.setStatus(FRINGER); w.setDad(v);
+                if(w.getStatus() == Vertex.UNSEEN){
+                    w.setStatus(Vertex.FRINGER); w.setDad(v);
                     w.setBandwidth(wMinBandWidth);
-                    fringers.add(w); numberOfFringers++;
+                    fringers[numberOfFringers++] = w.getId();
                 }
 
-                else if(w.getStatus().equals(FRINGER) && w.getBandwidth()<wMinBandWidth){
+                else if(w.getStatus() == Vertex.FRINGER && w.getBandwidth()<wMinBandWidth){
                     w.setDad(v);
                     w.setBandwidth(wMinBandWidth);
                 }
             }
         }
-        runtime[0] = Helper.endTimerAndPrintStats(start, "Dijkstras Without Heap", typeOfGraph);
+        Metrics.global().recordSearch(settled, relaxed, null);
     }
 
     /**
-     * This method runs the Dijkstras WITH heap algorithm.
+     * This method runs the Dijkstras WITH heap algorithm and prints its execution time.
      * Time Complexity: O((n+m) * log n) = O(m * log n)
      *
      * @param graph - Vertex object array which represents the entire graph.
@@ -83,42 +130,508 @@ public class Dijkstras {
      */
     public void withHeap(Vertex[] graph, int sourceIndex, String typeOfGraph, double[] runtime){
         long start = System.currentTimeMillis();
+        withHeap(graph, sourceIndex);
+        runtime[0] = Helper.endTimerAndPrintStats(start, "Dijkstras With Heap", typeOfGraph);
+    }
+
+    /**
+     * This method runs the Dijkstras WITH heap algorithm. Vertex states are byte codes and the heap is indexed
+     * by vertex id, so the search allocates nothing.
+     * Time Complexity: O((n+m) * log n) = O(m * log n)
+     *
+     * @param graph - Vertex object array which represents the entire graph, all vertices UNSEEN.
+     * @param sourceIndex - Index of the selected source vertex.
+     */
+    public void withHeap(Vertex[] graph, int sourceIndex){
+        if(this.totalNumberOfVertices < graph.length) {
+            this.totalNumberOfVertices = graph.length;
+            this.heap = this.queueType.create(graph.length, Graph.MAX_WEIGHT);
+        }
+        MaxPriorityQueue heap = this.heap;
+        heap.clear();
 
         Vertex source = graph[sourceIndex];
-        source.setStatus(IN_TREE);
+        source.setStatus(Vertex.IN_TREE);
         source.setBandwidth(Integer.MAX_VALUE);
         source.setDad(null);
 
+        long settled = 1, relaxed = source.getNeighbors().size();
         for(Edge edge : source.getNeighbors()){
             Vertex w = edge.getDestination();
-            w.setStatus(FRINGER);
+            w.setStatus(Vertex.FRINGER);
             w.setDad(source);
             w.setBandwidth(edge.getWeight());
             heap.insert(w.getId(), w.getBandwidth());
         }
 
         while(heap.getHeapSize() > 0){
-            int[] max = heap.MAX();
-            Vertex v = graph[max[0]];
-            v.setStatus(IN_TREE);
+            Vertex v = graph[heap.maxId()];
+            v.setStatus(Vertex.IN_TREE);
             heap.delete(v.getId());
+            settled++;
+            relaxed += v.getNeighbors().size();
 
             for(Edge edge : v.getNeighbors()){
                 int wMinBandWidth = Math.min(v.getBandwidth(), edge.getWeight());
                 Vertex w = edge.getDestination();
-                if(w.getStatus().equals(UNSEEN)){
-                    w.setStatus(FRINGER); w.setDad(v);
+                if(w.getStatus() == Vertex.UNSEEN){
+                    w.setStatus(Vertex.FRINGER); w.setDad(v);
                     w.setBandwidth(wMinBandWidth);
                     heap.insert(w.getId(), w.getBandwidth());
                 }
 
-                else if(w.getStatus().equals(FRINGER) && w.getBandwidth()<wMinBandWidth){
+                else if(w.getStatus() == Vertex.FRINGER && w.getBandwidth()<wMinBandWidth){
                     w.setDad(v);
                     w.setBandwidth(wMinBandWidth);
                     heap.adjust(w.getId(), w.getBandwidth());
                 }
             }
         }
-        runtime[0] = Helper.endTimerAndPrintStats(start, "Dijkstras With Heap", typeOfGraph);
+        Metrics.global().recordSearch(settled, relaxed, heap);
+    }
+
+    /**
+     * This method runs the Dijkstras WITH heap algorithm directly on the CSR arrays of a CompactGraph.
+     * Time Complexity: O((n+m) * log n) = O(m * log n)
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @param sourceIndex - Index of the selected source vertex.
+     * @param context - SearchContext receiving the bandwidth and dad of every vertex.
+     * @param typeOfGraph - String to specify whether the algorithm is being run on sparse or dense graph.
+     */
+    public void withHeap(CompactGraph graph, int sourceIndex, SearchContext context,
+                         String typeOfGraph, double[] runtime){
+        long start = System.currentTimeMillis();
+        heapSearch(graph, sourceIndex, -1, context);
+        runtime[0] = Helper.endTimerAndPrintStats(start, "Dijkstras With Heap (CSR)", typeOfGraph);
+    }
+
+    /**
+     * This method builds the maximum bandwidth tree from the source into the given context. The graph is only
+     * read, so any number of threads can search the same graph as long as each uses its own context.
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @param sourceIndex - Index of the selected source vertex.
+     * @param context - SearchContext receiving the bandwidth and dad of every vertex.
+     */
+    public void search(CompactGraph graph, int sourceIndex, SearchContext context){
+        search(graph, sourceIndex, -1, context);
+    }
+
+    /**
+     * This method answers a single point to point query. The search stops as soon as the destination is
+     * taken out of the heap as IN_TREE, because its bandwidth can not improve after that.
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @param sourceIndex - Index of the selected source vertex.
+     * @param destinationIndex - Index of the selected destination vertex.
+     * @param context - SearchContext used for the search.
+     * @return - Maximum bandwidth and path from source to destination.
+     */
+    public PathResult query(CompactGraph graph, int sourceIndex, int destinationIndex, SearchContext context){
+        long start = System.nanoTime();
+        search(graph, sourceIndex, destinationIndex, context);
+        PathResult result = new PathResult(context.getBandwidth(destinationIndex), context.getPath(destinationIndex));
+        Metrics.global().recordQuery(start);
+        return result;
+    }
+
+    /**
+     * This method builds the maximum bandwidth tree from the source straight on the arrays of a memory-mapped
+     * graph file, so the graph is never copied into the heap. Mapped graphs are always searched with the
+     * priority queue.
+     *
+     * @param graph - MappedGraph which represents the entire graph.
+     * @param sourceIndex - Index of the selected source vertex.
+     * @param context - SearchContext receiving the bandwidth and dad of every vertex.
+     */
+    public void search(MappedGraph graph, int sourceIndex, SearchContext context){
+        mappedSearch(graph, sourceIndex, -1, context);
+    }
+
+    /**
+     * This method answers a single point to point query on a memory-mapped graph, stopping as soon as the
+     * destination is IN_TREE.
+     *
+     * @param graph - MappedGraph which represents the entire graph.
+     * @param sourceIndex - Index of the selected source vertex.
+     * @param destinationIndex - Index of the selected destination vertex.
+     * @param context - SearchContext used for the search.
+     * @return - Maximum bandwidth and path from source to destination.
+     */
+    public PathResult query(MappedGraph graph, int sourceIndex, int destinationIndex, SearchContext context){
+        long start = System.nanoTime();
+        mappedSearch(graph, sourceIndex, destinationIndex, context);
+        PathResult result = new PathResult(context.getBandwidth(destinationIndex), context.getPath(destinationIndex));
+        Metrics.global().recordQuery(start);
+        return result;
+    }
+
+    /**
+     * This method builds the maximum bandwidth tree from the source with the engine selected for the graph,
+     * stopping early once the destination is in the tree.
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @param sourceIndex - Index of the selected source vertex.
+     * @param destinationIndex - Index of the vertex to stop at, or -1 to settle every vertex.
+     * @param context - SearchContext receiving the bandwidth and dad of every vertex.
+     */
+    private void search(CompactGraph graph, int sourceIndex, int destinationIndex, SearchContext context){
+        if(this.engine.resolve(graph) == SearchEngine.ARRAY_SCAN)
+            arrayScanSearch(graph, sourceIndex, destinationIndex, context);
+        else
+            heapSearch(graph, sourceIndex, destinationIndex, context);
+    }
+
+    /**
+     * This method builds the maximum bandwidth tree from the source using the priority queue, stopping early
+     * once the destination is in the tree.
+     * Time Complexity: O((n+m) * log n) = O(m * log n)
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @param sourceIndex - Index of the selected source vertex.
+     * @param destinationIndex - Index of the vertex to stop at, or -1 to settle every vertex.
+     * @param context - SearchContext receiving the bandwidth and dad of every vertex.
+     */
+    private void heapSearch(CompactGraph graph, int sourceIndex, int destinationIndex, SearchContext context){
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] weights = graph.getWeights();
+        byte[] status = context.status;
+        int[] bandwidth = context.bandwidth;
+        int[] dad = context.dad;
+
+        context.reset();
+        MaxPriorityQueue heap = context.getQueue(this.queueType, graph.getMaxWeight());
+        context.touch(sourceIndex);
+        status[sourceIndex] = SearchContext.IN_TREE;
+        bandwidth[sourceIndex] = Integer.MAX_VALUE;
+        if(sourceIndex == destinationIndex) {
+            Metrics.global().recordSearch(1, 0, heap);
+            return;
+        }
+
+        for(int arc = offsets[sourceIndex]; arc < offsets[sourceIndex+1]; ++arc){
+            int w = targets[arc];
+            context.touch(w);
+            status[w] = SearchContext.FRINGER;
+            dad[w] = sourceIndex;
+            bandwidth[w] = weights[arc];
+            heap.insert(w, bandwidth[w]);
+        }
+
+        long settled = 1, relaxed = offsets[sourceIndex+1] - offsets[sourceIndex];
+        while(heap.getHeapSize() > 0){
+            int v = heap.maxId();
+            status[v] = SearchContext.IN_TREE;
+            heap.delete(v);
+            settled++;
+            if(v == destinationIndex)
+                break;
+
+            int vBandwidth = bandwidth[v];
+            relaxed += offsets[v+1] - offsets[v];
+            for(int arc = offsets[v]; arc < offsets[v+1]; ++arc){
+                int wMinBandWidth = Math.min(vBandwidth, weights[arc]);
+                int w = targets[arc];
+                if(status[w] == SearchContext.UNSEEN){
+                    context.touch(w);
+                    status[w] = SearchContext.FRINGER; dad[w] = v;
+                    bandwidth[w] = wMinBandWidth;
+                    heap.insert(w, wMinBandWidth);
+                }
+
+                else if(status[w] == SearchContext.FRINGER && bandwidth[w] < wMinBandWidth){
+                    dad[w] = v;
+                    bandwidth[w] = wMinBandWidth;
+                    heap.adjust(w, wMinBandWidth);
+                }
+            }
+        }
+        Metrics.global().recordSearch(settled, relaxed, heap);
+    }
+
+    /**
+     * This method is heapSearch reading the arcs from the mapped buffers instead of heap arrays.
+     * Time Complexity: O((n+m) * log n) = O(m * log n)
+     *
+     * @param graph - MappedGraph which represents the entire graph.
+     * @param sourceIndex - Index of the selected source vertex.
+     * @param destinationIndex - Index of the vertex to stop at, or -1 to settle every vertex.
+     * @param context - SearchContext receiving the bandwidth and dad of every vertex.
+     */
+    private void mappedSearch(MappedGraph graph, int sourceIndex, int destinationIndex, SearchContext context){
+        byte[] status = context.status;
+        int[] bandwidth = context.bandwidth;
+        int[] dad = context.dad;
+
+        context.reset();
+        MaxPriorityQueue heap = context.getQueue(this.queueType, graph.getMaxWeight());
+        context.touch(sourceIndex);
+        status[sourceIndex] = SearchContext.IN_TREE;
+        bandwidth[sourceIndex] = Integer.MAX_VALUE;
+        if(sourceIndex == destinationIndex) {
+            Metrics.global().recordSearch(1, 0, heap);
+            return;
+        }
+
+        for(int arc = graph.offset(sourceIndex); arc < graph.offset(sourceIndex+1); ++arc){
+            int w = graph.target(arc);
+            context.touch(w);
+            status[w] = SearchContext.FRINGER;
+            dad[w] = sourceIndex;
+            bandwidth[w] = graph.weight(arc);
+            heap.insert(w, bandwidth[w]);
+        }
+
+        long settled = 1, relaxed = graph.getDegree(sourceIndex);
+        while(heap.getHeapSize() > 0){
+            int v = heap.maxId();
+            status[v] = SearchContext.IN_TREE;
+            heap.delete(v);
+            settled++;
+            if(v == destinationIndex)
+                break;
+
+            int vBandwidth = bandwidth[v];
+            int end = graph.offset(v+1);
+            relaxed += end - graph.offset(v);
+            for(int arc = graph.offset(v); arc < end; ++arc){
+                int wMinBandWidth = Math.min(vBandwidth, graph.weight(arc));
+                int w = graph.target(arc);
+                if(status[w] == SearchContext.UNSEEN){
+                    context.touch(w);
+                    status[w] = SearchContext.FRINGER; dad[w] = v;
+                    bandwidth[w] = wMinBandWidth;
+                    heap.insert(w, wMinBandWidth);
+                }
+
+                else if(status[w] == SearchContext.FRINGER && bandwidth[w] < wMinBandWidth){
+                    dad[w] = v;
+                    bandwidth[w] = wMinBandWidth;
+                    heap.adjust(w, wMinBandWidth);
+                }
+            }
+        }
+        Metrics.global().recordSearch(settled, relaxed, heap);
+    }
+
+    /**
+     * This method builds the maximum bandwidth tree from the source without a priority queue. Every fringer
+     * keeps its bandwidth in a contiguous key array where all other vertices hold -1, and the array is split
+     * in blocks of about sqrt(n) keys with the largest key of every block kept alongside. The next vertex to
+     * put in the tree is found by scanning the block maxima and then the one block holding the largest key.
+     * Relaxing an arc only raises a key and its block maximum, so unlike a heap nothing is reordered per arc,
+     * and every scan is a plain sequential pass over an int array.
+     * Time Complexity: O(n * sqrt(n) + m)
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @param sourceIndex - Index of the selected source vertex.
+     * @param destinationIndex - Index of the vertex to stop at, or -1 to settle every vertex.
+     * @param context - SearchContext receiving the bandwidth and dad of every vertex.
+     */
+    private void arrayScanSearch(CompactGraph graph, int sourceIndex, int destinationIndex, SearchContext context){
+        int n = graph.getNumberOfVertices();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] weights = graph.getWeights();
+        byte[] status = context.status;
+        int[] bandwidth = context.bandwidth;
+        int[] dad = context.dad;
+        int[] keys = context.getScanKeys();
+        int[] blockKeys = context.getScanBlockKeys();
+        int shift = (32 - Integer.numberOfLeadingZeros(n)) / 2;
+        int numberOfBlocks = ((n - 1) >> shift) + 1;
+
+        context.reset();
+        Arrays.fill(keys, 0, n, -1);
+        Arrays.fill(blockKeys, 0, numberOfBlocks, -1);
+        context.touch(sourceIndex);
+        status[sourceIndex] = SearchContext.IN_TREE;
+        bandwidth[sourceIndex] = Integer.MAX_VALUE;
+        if(sourceIndex == destinationIndex) {
+            Metrics.global().recordSearch(1, 0, null);
+            return;
+        }
+
+        int numberOfFringers = 0;
+        long settled = 1, relaxed = 0;
+        int v = sourceIndex;
+        while(true){
+            int vBandwidth = bandwidth[v];
+            relaxed += offsets[v+1] - offsets[v];
+            for(int arc = offsets[v]; arc < offsets[v+1]; ++arc){
+                int wMinBandWidth = Math.min(vBandwidth, weights[arc]);
+                int w = targets[arc];
+                if(status[w] == SearchContext.UNSEEN){
+                    context.touch(w);
+                    status[w] = SearchContext.FRINGER; dad[w] = v;
+                    numberOfFringers++;
+                }
+
+                else if(status[w] != SearchContext.FRINGER || bandwidth[w] >= wMinBandWidth)
+                    continue;
+
+                dad[w] = v;
+                bandwidth[w] = wMinBandWidth;
+                keys[w] = wMinBandWidth;
+                if(blockKeys[w >> shift] < wMinBandWidth)
+                    blockKeys[w >> shift] = wMinBandWidth;
+            }
+
+            if(numberOfFringers == 0)
+                break;
+
+            //Max reductions vectorize, so find the largest key first and its position afterwards
+            int maxKey = -1;
+            for(int b=0; b<numberOfBlocks; ++b)
+                maxKey = Math.max(maxKey, blockKeys[b]);
+            int block = 0;
+            while(blockKeys[block] != maxKey)
+                block++;
+
+            int from = block << shift;
+            int to = Math.min(n, from + (1 << shift));
+            v = from;
+            while(keys[v] != maxKey)
+                v++;
+
+            status[v] = SearchContext.IN_TREE;
+            keys[v] = -1;
+            numberOfFringers--;
+            settled++;
+            int blockKey = -1;
+            for(int i=from; i<to; ++i)
+                blockKey = Math.max(blockKey, keys[i]);
+            blockKeys[block] = blockKey;
+
+            if(v == destinationIndex)
+                break;
+        }
+        Metrics.global().recordSearch(settled, relaxed, null);
+    }
+
+    /**
+     * This method answers a point to point query on an undirected graph by growing one maximum bandwidth tree
+     * from the source and one from the destination at the same time, always expanding the smaller frontier.
+     * Every arc scanned from a settled vertex to a vertex labelled by the other search gives a candidate path.
+     * Once the best candidate is at least the largest bandwidth left in either heap, no unsettled vertex can
+     * lead to a wider path, so the candidate is optimal and the search stops.
+     *
+     * @param graph - CompactGraph which represents the entire graph, every edge must be stored in both directions.
+     * @param sourceIndex - Index of the selected source vertex.
+     * @param destinationIndex - Index of the selected destination vertex.
+     * @param context - SearchContext used for the forward search, its companion is used for the backward one.
+     * @return - Maximum bandwidth and path from source to destination.
+     */
+    public PathResult bidirectionalQuery(CompactGraph graph, int sourceIndex, int destinationIndex,
+                                         SearchContext context){
+        long start = System.nanoTime();
+        PathResult result = bidirectionalSearch(graph, sourceIndex, destinationIndex, context);
+        Metrics.global().recordQuery(start);
+        return result;
+    }
+
+    private PathResult bidirectionalSearch(CompactGraph graph, int sourceIndex, int destinationIndex,
+                                           SearchContext context){
+        if(sourceIndex == destinationIndex)
+            return new PathResult(Integer.MAX_VALUE, new int[]{sourceIndex});
+
+        SearchContext forward = context;
+        SearchContext backward = context.getBackward();
+        forward.reset();
+        backward.reset();
+        MaxPriorityQueue forwardHeap = forward.getQueue(this.queueType, graph.getMaxWeight());
+        MaxPriorityQueue backwardHeap = backward.getQueue(this.queueType, graph.getMaxWeight());
+
+        //meeting = {best bandwidth, vertex on the forward side, vertex on the backward side}
+        int[] meeting = {0, -1, -1};
+        for(SearchContext side : new SearchContext[]{forward, backward}){
+            int root = (side == forward) ? sourceIndex : destinationIndex;
+            side.touch(root);
+            side.status[root] = SearchContext.IN_TREE;
+            side.bandwidth[root] = Integer.MAX_VALUE;
+        }
+        settle(graph, sourceIndex, forward, forwardHeap, backward, true, meeting);
+        settle(graph, destinationIndex, backward, backwardHeap, forward, false, meeting);
+        int[] offsets = graph.getOffsets();
+        long settled = 2;
+        long relaxed = (offsets[sourceIndex+1] - offsets[sourceIndex]) + (offsets[destinationIndex+1] - offsets[destinationIndex]);
+
+        while(forwardHeap.getHeapSize() > 0 && backwardHeap.getHeapSize() > 0){
+            if(forwardHeap.maxKey() <= meeting[0] || backwardHeap.maxKey() <= meeting[0])
+                break;
+
+            boolean expandForward = forwardHeap.getHeapSize() <= backwardHeap.getHeapSize();
+            SearchContext side = expandForward ? forward : backward;
+            MaxPriorityQueue sideHeap = expandForward ? forwardHeap : backwardHeap;
+            SearchContext other = expandForward ? backward : forward;
+            int v = sideHeap.maxId();
+            side.status[v] = SearchContext.IN_TREE;
+            sideHeap.delete(v);
+            settle(graph, v, side, sideHeap, other, expandForward, meeting);
+            settled++;
+            relaxed += offsets[v+1] - offsets[v];
+        }
+        Metrics.global().recordSearch(settled, relaxed, forwardHeap);
+        Metrics.global().recordQueue(backwardHeap);
+
+        if(meeting[1] == -1)
+            return new PathResult(0, new int[0]);
+
+        int[] head = forward.getPath(meeting[1]);
+        int[] tail = backward.getPath(meeting[2]);
+        int[] path = new int[head.length + tail.length];
+        System.arraycopy(head, 0, path, 0, head.length);
+        for(int i=0; i<tail.length; ++i)
+            path[head.length + i] = tail[tail.length - 1 - i];
+        return new PathResult(meeting[0], path);
+    }
+
+    /**
+     * This method relaxes all the arcs of a vertex which was just put in the tree of one side of a
+     * bidirectional search and records the widest path meeting the other side.
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @param v - Vertex which was just put in the tree.
+     * @param side - SearchContext of the search that owns v.
+     * @param sideHeap - Priority queue of the search that owns v.
+     * @param other - SearchContext of the opposite search.
+     * @param forwardSide - Boolean flag to determine whether side is the forward search.
+     * @param meeting - Best bandwidth found so far and the two vertices of its meeting arc.
+     */
+    private void settle(CompactGraph graph, int v, SearchContext side, MaxPriorityQueue sideHeap,
+                        SearchContext other, boolean forwardSide, int[] meeting){
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] weights = graph.getWeights();
+        int vBandwidth = side.bandwidth[v];
+
+        for(int arc = offsets[v]; arc < offsets[v+1]; ++arc){
+            int wMinBandWidth = Math.min(vBandwidth, weights[arc]);
+            int w = targets[arc];
+
+            if(other.status[w] != SearchContext.UNSEEN){
+                int candidate = Math.min(wMinBandWidth, other.bandwidth[w]);
+                if(candidate > meeting[0]){
+                    meeting[0] = candidate;
+                    meeting[1] = forwardSide ? v : w;
+                    meeting[2] = forwardSide ? w : v;
+                }
+            }
+
+            if(side.status[w] == SearchContext.UNSEEN){
+                side.touch(w);
+                side.status[w] = SearchContext.FRINGER; side.dad[w] = v;
+                side.bandwidth[w] = wMinBandWidth;
+                sideHeap.insert(w, wMinBandWidth);
+            }
+
+            else if(side.status[w] == SearchContext.FRINGER && side.bandwidth[w] < wMinBandWidth){
+                side.dad[w] = v;
+                side.bandwidth[w] = wMinBandWidth;
+                sideHeap.adjust(w, wMinBandWidth);
+            }
+        }
     }
 }
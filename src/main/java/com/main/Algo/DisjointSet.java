@@ -0,0 +1,95 @@
+package com.main.Algo;
+
+/**
+ * Union-find over the elements 0..n-1 kept in primitive parent and rank arrays. find uses path halving, which
+ * shortens the path while walking it without any extra storage, so no call allocates.
+ */
+public class DisjointSet {
+
+    private final int[] parent;
+
+    private final byte[] rank;
+
+    private int numberOfSets;
+
+    //Operation counts, handed to the shared metrics by the algorithm owning the sets. finds counts every call,
+    //unions only the calls which merged two different sets
+    private long finds;
+
+    private long unions;
+
+    /**
+     * Constructor to create n singleton sets.
+     *
+     * @param numberOfElements - Number of elements.
+     */
+    public DisjointSet(int numberOfElements){
+        this.parent = new int[numberOfElements];
+        this.rank = new byte[numberOfElements];
+        for(int i=0; i<numberOfElements; ++i)
+            this.parent[i] = i;
+        this.numberOfSets = numberOfElements;
+    }
+
+    /**
+     * This method finds the root of the set containing v, making every other vertex on the way point to its
+     * grandparent.
+     *
+     * @param v - Element whose root needs to be found.
+     * @return - Root of element v.
+     */
+    public int find(int v){
+        this.finds++;
+        while(this.parent[v] != v){
+            this.parent[v] = this.parent[this.parent[v]];
+            v = this.parent[v];
+        }
+        return v;
+    }
+
+    /**
+     * This method merges the sets containing u and v using union by rank.
+     *
+     * @param u - First element.
+     * @param v - Second element.
+     * @return - True if the sets were different and got merged, false if u and v were already in the same set.
+     */
+    public boolean union(int u, int v){
+        int rootU = find(u);
+        int rootV = find(v);
+        if(rootU == rootV)
+            return false;
+
+        this.unions++;
+        if(this.rank[rootU] > this.rank[rootV]) {
+            this.parent[rootV] = rootU;
+        } else if(this.rank[rootU] < this.rank[rootV]) {
+            this.parent[rootU] = rootV;
+        } else {
+            this.parent[rootU] = rootV;
+            this.rank[rootV]++;
+        }
+        this.numberOfSets--;
+        return true;
+    }
+
+    public boolean connected(int u, int v){
+        return find(u) == find(v);
+    }
+
+    public int getNumberOfSets() {
+        return this.numberOfSets;
+    }
+
+    public int size() {
+        return this.parent.length;
+    }
+
+    public long getFinds() {
+        return this.finds;
+    }
+
+    public long getUnions() {
+        return this.unions;
+    }
+}
@@ -0,0 +1,441 @@
+package com.main.Algo;
+
+import com.main.Graph.CompactGraph;
+
+import java.util.Arrays;
+
+/**
+ * Maximum spanning forest maintained under edge insertions, removals and bandwidth changes, so bottleneck
+ * answers stay correct without rebuilding the tree after every change.
+ *
+ * The forest is kept as parent pointers plus tree adjacency lists. An edge that is inserted or gets wider
+ * replaces the narrowest edge of the tree path between its endpoints if it is wider than it. When a tree edge
+ * is removed or gets narrower, it is cut, and the widest edge across the cut reconnects the two sides. That edge
+ * is found by scanning only the smaller side, which is found by searching both sides in lockstep.
+ * Time Complexity: O(tree path length) per query and insertion, O(edges of the smaller side) per cut.
+ *
+ * Instances are not thread safe.
+ */
+public class DynamicSpanningTree {
+
+    private final int numberOfVertices;
+
+    private final AdjacencyLists graph;
+
+    private final AdjacencyLists tree;
+
+    private final int[] parent;
+
+    private final int[] parentWeight;
+
+    private final int[] mark;
+
+    private int stamp;
+
+    private final int[] sideA;
+
+    private final int[] sideB;
+
+    /**
+     * Constructor to build the maximum spanning forest of the given graph. The graph is copied, later changes
+     * are only made through this object.
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     */
+    public DynamicSpanningTree(CompactGraph graph){
+        this.numberOfVertices = graph.getNumberOfVertices();
+        this.graph = new AdjacencyLists(this.numberOfVertices);
+        this.tree = new AdjacencyLists(this.numberOfVertices);
+        this.parent = new int[this.numberOfVertices];
+        this.parentWeight = new int[this.numberOfVertices];
+        this.mark = new int[this.numberOfVertices];
+        this.sideA = new int[this.numberOfVertices];
+        this.sideB = new int[this.numberOfVertices];
+
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] weights = graph.getWeights();
+        for(int u=0; u<this.numberOfVertices; ++u)
+            for(int arc = offsets[u]; arc < offsets[u+1]; ++arc)
+                this.graph.add(u, targets[arc], weights[arc]);
+
+        CompactGraph T = Kruskals.maximumSpanningTree(graph);
+        int[] treeOffsets = T.getOffsets();
+        int[] treeTargets = T.getTargets();
+        int[] treeWeights = T.getWeights();
+        for(int u=0; u<this.numberOfVertices; ++u)
+            for(int arc = treeOffsets[u]; arc < treeOffsets[u+1]; ++arc)
+                this.tree.add(u, treeTargets[arc], treeWeights[arc]);
+
+        //Root every tree at its lowest vertex with a breadth first search
+        Arrays.fill(this.parent, -2);
+        for(int root=0; root<this.numberOfVertices; ++root){
+            if(this.parent[root] != -2)
+                continue;
+            this.parent[root] = -1;
+            int head = 0, tail = 0;
+            this.sideA[tail++] = root;
+            while(head < tail){
+                int v = this.sideA[head++];
+                for(int i=0; i<this.tree.degree[v]; ++i){
+                    int w = this.tree.neighbors[v][i];
+                    if(this.parent[w] != -2)
+                        continue;
+                    this.parent[w] = v;
+                    this.parentWeight[w] = this.tree.weights[v][i];
+                    this.sideA[tail++] = w;
+                }
+            }
+        }
+    }
+
+    /**
+     * This method adds an edge, or changes its bandwidth if it already exists.
+     *
+     * @param u - First endpoint.
+     * @param v - Second endpoint.
+     * @param weight - Bandwidth of the edge.
+     */
+    public void insertEdge(int u, int v, int weight){
+        if(u == v)
+            return;
+        if(this.graph.indexOf(u, v) >= 0) {
+            setWeight(u, v, weight);
+            return;
+        }
+
+        this.graph.add(u, v, weight);
+        this.graph.add(v, u, weight);
+        offer(u, v, weight);
+    }
+
+    /**
+     * This method removes an edge. If it was in the tree, the widest edge across the cut replaces it.
+     *
+     * @param u - First endpoint.
+     * @param v - Second endpoint.
+     * @return - False if there was no such edge.
+     */
+    public boolean removeEdge(int u, int v){
+        if(this.graph.indexOf(u, v) < 0)
+            return false;
+
+        this.graph.remove(u, v);
+        this.graph.remove(v, u);
+        if(this.tree.indexOf(u, v) >= 0)
+            cutAndReconnect(u, v);
+        return true;
+    }
+
+    /**
+     * This method changes the bandwidth of an edge, adding the edge if it does not exist.
+     *
+     * @param u - First endpoint.
+     * @param v - Second endpoint.
+     * @param weight - New bandwidth of the edge.
+     */
+    public void setWeight(int u, int v, int weight){
+        int index = this.graph.indexOf(u, v);
+        if(index < 0) {
+            insertEdge(u, v, weight);
+            return;
+        }
+
+        int oldWeight = this.graph.weights[u][index];
+        this.graph.setWeight(u, v, weight);
+        this.graph.setWeight(v, u, weight);
+        if(this.tree.indexOf(u, v) >= 0) {
+            //A wider tree edge stays in the tree, a narrower one may be replaced by an edge across its cut
+            this.tree.setWeight(u, v, weight);
+            this.tree.setWeight(v, u, weight);
+            this.parentWeight[(this.parent[u] == v) ? u : v] = weight;
+            if(weight < oldWeight)
+                cutAndReconnect(u, v);
+        } else if(weight > oldWeight) {
+            offer(u, v, weight);
+        }
+    }
+
+    /**
+     * Method to find the bandwidth of an edge.
+     *
+     * @param u - First endpoint.
+     * @param v - Second endpoint.
+     * @return - Bandwidth of the edge or -1 if there is no such edge.
+     */
+    public int getWeight(int u, int v){
+        int index = this.graph.indexOf(u, v);
+        return (index < 0) ? -1 : this.graph.weights[u][index];
+    }
+
+    /**
+     * Method to find the maximum bandwidth between two vertices on the current graph.
+     * Time Complexity: O(length of the tree path)
+     *
+     * @param sourceIndex - Index of the source vertex.
+     * @param destinationIndex - Index of the destination vertex.
+     * @return - The maximum bandwidth, Integer.MAX_VALUE if both are the same vertex and 0 if unreachable.
+     */
+    public int maxBandwidth(int sourceIndex, int destinationIndex){
+        if(sourceIndex == destinationIndex)
+            return Integer.MAX_VALUE;
+        int narrowest = narrowestOnPath(sourceIndex, destinationIndex);
+        return (narrowest < 0) ? 0 : this.parentWeight[narrowest];
+    }
+
+    /**
+     * Method to find the maximum bandwidth path between two vertices on the current graph.
+     *
+     * @param sourceIndex - Index of the source vertex.
+     * @param destinationIndex - Index of the destination vertex.
+     * @return - Maximum bandwidth and path from source to destination.
+     */
+    public PathResult query(int sourceIndex, int destinationIndex){
+        int bandwidth = maxBandwidth(sourceIndex, destinationIndex);
+        if(bandwidth == 0)
+            return new PathResult(0, new int[0]);
+
+        //narrowestOnPath left the path from the source to its root marked
+        int ancestor = destinationIndex;
+        int vSteps = 0;
+        while(sourceIndex != destinationIndex && this.mark[ancestor] != this.stamp) {
+            ancestor = this.parent[ancestor]; vSteps++;
+        }
+        int uSteps = 0;
+        for(int u = sourceIndex; u != ancestor; u = this.parent[u])
+            uSteps++;
+
+        int[] path = new int[uSteps + vSteps + 1];
+        int u = sourceIndex;
+        for(int i=0; i<=uSteps; ++i, u = this.parent[u])
+            path[i] = u;
+        int v = destinationIndex;
+        for(int i=path.length-1; i>uSteps; --i, v = this.parent[v])
+            path[i] = v;
+        return new PathResult(bandwidth, path);
+    }
+
+    /**
+     * Method to export the current maximum spanning forest, for example to build a BottleneckIndex.
+     *
+     * @return - The forest in CSR form.
+     */
+    public CompactGraph getTree() {
+        return this.tree.toCompactGraph();
+    }
+
+    /**
+     * Method to export the current graph.
+     *
+     * @return - The graph in CSR form.
+     */
+    public CompactGraph getGraph() {
+        return this.graph.toCompactGraph();
+    }
+
+    public int getNumberOfVertices() {
+        return this.numberOfVertices;
+    }
+
+    /**
+     * Method to put an inserted or widened non tree edge into the tree if it is wider than the narrowest edge
+     * on the tree path between its endpoints, or if its endpoints are in different trees.
+     *
+     * @param u - First endpoint.
+     * @param v - Second endpoint.
+     * @param weight - Bandwidth of the edge.
+     */
+    private void offer(int u, int v, int weight){
+        int narrowest = narrowestOnPath(u, v);
+        if(narrowest == -2) {
+            link(u, v, weight);
+        } else if(narrowest >= 0 && this.parentWeight[narrowest] < weight) {
+            cut(narrowest, this.parent[narrowest]);
+            link(u, v, weight);
+        }
+    }
+
+    /**
+     * Method to find the narrowest tree edge between two vertices. The path from u to its root is left marked
+     * with the current stamp.
+     *
+     * @param u - First vertex.
+     * @param v - Second vertex.
+     * @return - Child endpoint of the narrowest edge, -1 if u == v and -2 if u and v are in different trees.
+     */
+    private int narrowestOnPath(int u, int v){
+        this.stamp++;
+        for(int x = u; x != -1; x = this.parent[x])
+            this.mark[x] = this.stamp;
+
+        int ancestor = v;
+        while(ancestor != -1 && this.mark[ancestor] != this.stamp)
+            ancestor = this.parent[ancestor];
+        if(ancestor == -1)
+            return -2;
+
+        int narrowest = -1;
+        for(int x = u; x != ancestor; x = this.parent[x])
+            if(narrowest == -1 || this.parentWeight[x] < this.parentWeight[narrowest])
+                narrowest = x;
+        for(int x = v; x != ancestor; x = this.parent[x])
+            if(narrowest == -1 || this.parentWeight[x] < this.parentWeight[narrowest])
+                narrowest = x;
+        return narrowest;
+    }
+
+    /**
+     * Method to cut a tree edge and reconnect both sides with the widest graph edge between them, if any.
+     *
+     * @param u - First endpoint of the tree edge.
+     * @param v - Second endpoint of the tree edge.
+     */
+    private void cutAndReconnect(int u, int v){
+        cut(u, v);
+
+        //Search both sides one vertex at a time until the smaller one is complete
+        int stampA = ++this.stamp;
+        int stampB = ++this.stamp;
+        int headA = 0, tailA = 0, headB = 0, tailB = 0;
+        this.sideA[tailA++] = u; this.mark[u] = stampA;
+        this.sideB[tailB++] = v; this.mark[v] = stampB;
+        while(headA < tailA && headB < tailB){
+            tailA = expand(this.sideA[headA++], this.sideA, tailA, stampA);
+            tailB = expand(this.sideB[headB++], this.sideB, tailB, stampB);
+        }
+        int[] side = (headA == tailA) ? this.sideA : this.sideB;
+        int size = (headA == tailA) ? tailA : tailB;
+        int sideStamp = (headA == tailA) ? stampA : stampB;
+
+        int bestFrom = -1, bestTo = -1, bestWeight = -1;
+        for(int i=0; i<size; ++i){
+            int x = side[i];
+            for(int j=0; j<this.graph.degree[x]; ++j){
+                int y = this.graph.neighbors[x][j];
+                if(this.mark[y] != sideStamp && this.graph.weights[x][j] > bestWeight) {
+                    bestFrom = x; bestTo = y; bestWeight = this.graph.weights[x][j];
+                }
+            }
+        }
+        if(bestFrom != -1)
+            link(bestFrom, bestTo, bestWeight);
+    }
+
+    private int expand(int x, int[] queue, int tail, int sideStamp){
+        for(int i=0; i<this.tree.degree[x]; ++i){
+            int y = this.tree.neighbors[x][i];
+            if(this.mark[y] != sideStamp) {
+                this.mark[y] = sideStamp;
+                queue[tail++] = y;
+            }
+        }
+        return tail;
+    }
+
+    /**
+     * Method to join two trees with an edge, making u the root of its tree first.
+     *
+     * @param u - Endpoint whose tree is hung below v.
+     * @param v - Endpoint in the other tree.
+     * @param weight - Bandwidth of the edge.
+     */
+    private void link(int u, int v, int weight){
+        evert(u);
+        this.parent[u] = v;
+        this.parentWeight[u] = weight;
+        this.tree.add(u, v, weight);
+        this.tree.add(v, u, weight);
+    }
+
+    private void cut(int u, int v){
+        if(this.parent[u] == v)
+            this.parent[u] = -1;
+        else
+            this.parent[v] = -1;
+        this.tree.remove(u, v);
+        this.tree.remove(v, u);
+    }
+
+    /**
+     * Method to make r the root of its tree by reversing the parent pointers on the path from r to the root.
+     *
+     * @param r - New root.
+     */
+    private void evert(int r){
+        int previous = -1, previousWeight = 0;
+        for(int x = r; x != -1; ){
+            int next = this.parent[x];
+            int nextWeight = this.parentWeight[x];
+            this.parent[x] = previous;
+            this.parentWeight[x] = previousWeight;
+            previous = x;
+            previousWeight = nextWeight;
+            x = next;
+        }
+    }
+
+    /**
+     * Growable per vertex neighbor and weight arrays supporting removal, for graphs that change.
+     */
+    private static class AdjacencyLists {
+        final int[][] neighbors;
+        final int[][] weights;
+        final int[] degree;
+
+        AdjacencyLists(int numberOfVertices){
+            this.neighbors = new int[numberOfVertices][];
+            this.weights = new int[numberOfVertices][];
+            this.degree = new int[numberOfVertices];
+            for(int v=0; v<numberOfVertices; ++v){
+                this.neighbors[v] = new int[2];
+                this.weights[v] = new int[2];
+            }
+        }
+
+        void add(int u, int v, int weight){
+            if(this.degree[u] == this.neighbors[u].length) {
+                this.neighbors[u] = Arrays.copyOf(this.neighbors[u], this.degree[u] * 2);
+                this.weights[u] = Arrays.copyOf(this.weights[u], this.degree[u] * 2);
+            }
+            this.neighbors[u][this.degree[u]] = v;
+            this.weights[u][this.degree[u]++] = weight;
+        }
+
+        int indexOf(int u, int v){
+            for(int i=0; i<this.degree[u]; ++i)
+                if(this.neighbors[u][i] == v)
+                    return i;
+            return -1;
+        }
+
+        void setWeight(int u, int v, int weight){
+            this.weights[u][indexOf(u, v)] = weight;
+        }
+
+        //The last neighbor takes the place of the removed one
+        void remove(int u, int v){
+            int i = indexOf(u, v);
+            int last = --this.degree[u];
+            this.neighbors[u][i] = this.neighbors[u][last];
+            this.weights[u][i] = this.weights[u][last];
+        }
+
+        CompactGraph toCompactGraph(){
+            int numberOfVertices = this.degree.length;
+            int numberOfArcs = 0;
+            for(int d : this.degree)
+                numberOfArcs += d;
+            int[] sources = new int[numberOfArcs];
+            int[] destinations = new int[numberOfArcs];
+            int[] arcWeights = new int[numberOfArcs];
+            int arc = 0;
+            for(int u=0; u<numberOfVertices; ++u){
+                for(int i=0; i<this.degree[u]; ++i){
+                    sources[arc] = u; destinations[arc] = this.neighbors[u][i]; arcWeights[arc++] = this.weights[u][i];
+                }
+            }
+            //Both directions are listed, fromEdges merges them back into one edge
+            return CompactGraph.fromEdges(numberOfVertices, sources, destinations, arcWeights, numberOfArcs);
+        }
+    }
+}
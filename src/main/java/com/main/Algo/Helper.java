@@ -1,20 +1,26 @@
 package com.main.Algo;
 
+import com.main.Graph.CompactGraph;
 import com.main.Graph.Edge;
 import com.main.Graph.Vertex;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 public class Helper {
     static List<List<String>> rows = new ArrayList<>();
 
     static List<String> row = new ArrayList<>();
+
+    private static volatile boolean printStats = true;
+
     public Helper(){
-        List<String> headers = Arrays.asList("| GraphType |", " Source and Destination ", "| DijktrasWithoutHeap |", " DijktrasWithHeap ", "| Krushkals |" +
-                "\n| ========= | ====================== | =================== | ================ | ========= |");
+        List<String> headers = Arrays.asList("| GraphType |", " Source and Destination ", "| DijktrasWithoutHeap |", " DijktrasWithHeap ", "| Krushkals |", " Boruvka |" +
+                "\n| ========= | ====================== | =================== | ================ | ========= | ======= |");
         rows.add(headers);
     }
 
@@ -88,26 +94,56 @@ public class Helper {
         printPath(T, randomSourceVertexIndex, randomDestinationVertexIndex);
         reset(graph);
 
+        row.add("| "+runTime[0]);
+        return maxBandwidth;
+    }
+
+    /**
+     * This method is responsible for building the maximum spanning tree with the parallel Boruvka engine, labelling
+     * it from the source to find the maxBW path, and printing maximum bandwidth and path found by the algo.
+     * It gives the same answer as kruskals.
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @param pool - ForkJoinPool the tree is built on.
+     * @param randomSourceVertexIndex - Index of the randomly selected source vertex.
+     * @param randomDestinationVertexIndex - Index of the randomly selected destination vertex.
+     * @param typeOfGraph - String to specify whether the algorithm is being run on sparse or dense graph.
+     * @return - The maximum bandwidth value found by the algo.
+     */
+    public int boruvka(CompactGraph graph, ForkJoinPool pool, int randomSourceVertexIndex, int randomDestinationVertexIndex, String typeOfGraph, double[] runTime){
+        CompactGraph T = new Boruvka(pool).boruvka(graph, typeOfGraph, runTime);
+        PathResult result = TreeLabeler.label(T, randomSourceVertexIndex).query(randomDestinationVertexIndex);
+        System.out.println("Maximum Bandwidth from source vertex ("+randomSourceVertexIndex+ ") to destination vertex (" +randomDestinationVertexIndex +") is: " +result.getBandwidth());
+        printPath(result);
+        System.out.println("=====");
+
         row.add("| "+runTime[0]);
         rows.add(row);
         row = new ArrayList<>();
-        return maxBandwidth;
+        return result.getBandwidth();
     }
 
     /**
-     * Normal Depth First search algo to set maximum Bandwidth path from the given source.
+     * Depth First search algo to set maximum Bandwidth path from the given source. It keeps its own stack
+     * instead of recursing, so a tree shaped like a long path can not overflow the call stack.
      *
      * @param source - Source Vertex
      */
     private void DFS(Vertex source) {
-        source.setStatus("seen");
-
-        for(Edge edge : source.getNeighbors()){
-            Vertex nextVertex = edge.getDestination();
-            if(nextVertex.getStatus().equals("unseen")) {
-                nextVertex.setDad(source);
-                nextVertex.setBandwidth(Math.min(source.getBandwidth(), edge.getWeight()));
-                DFS(nextVertex);
+        ArrayDeque<Vertex> stack = new ArrayDeque<>();
+        source.setStatus(Vertex.IN_TREE);
+        stack.push(source);
+
+        while(!stack.isEmpty()){
+            Vertex v = stack.pop();
+            for(Edge edge : v.getNeighbors()){
+                Vertex nextVertex = edge.getDestination();
+                if(nextVertex.getStatus() == Vertex.UNSEEN) {
+                    nextVertex.setStatus(Vertex.IN_TREE);
+                    nextVertex.setDad(v);
+                    nextVertex.setBandwidth(Math.min(v.getBandwidth(), edge.getWeight()));
+                    stack.push(nextVertex);
+                }
             }
         }
     }
@@ -173,6 +209,23 @@ public class Helper {
         System.out.println("(V:"+destination.getId()+ ", W:"+destination.getBandwidth()+")");
     }
 
+    /**
+     * Method to print a maximum bandwidth path returned by the CompactGraph engines.
+     *
+     * @param result - Query answer holding the path from source to destination.
+     */
+    private void printPath(PathResult result){
+        int[] path = result.getPath();
+        if(path.length == 0){
+            System.out.println("No path found");
+            return;
+        }
+        System.out.print("Path from (" + path[0] + ") to (" + path[path.length-1] +") is ");
+        for(int i=path.length-1; i>0; --i)
+            System.out.print("(V:"+path[i]+ ") <- ");
+        System.out.println("(V:"+path[0]+ ")");
+    }
+
     /**
      * Method to end the timer which was started at the beginning of the algorithm run and print execution time.
      *
@@ -182,23 +235,36 @@ public class Helper {
      */
     public static double endTimerAndPrintStats(long start, String algoName, String typeOfGraph){
         long end = System.currentTimeMillis();
-        System.out.println("Printing stats for " + algoName + " on "+ typeOfGraph+":");
-        System.out.println("Execution time: " + (end - start) + " milliseconds");
+        if(printStats) {
+            System.out.println("Printing stats for " + algoName + " on "+ typeOfGraph+":");
+            System.out.println("Execution time: " + (end - start) + " milliseconds");
+        }
 
         return (end - start);
     }
 
     /**
-     * Method to make sure that the bandwidths for all 3 algorithms is exactly the same.
+     * Method to turn the stats printed by the algorithms on or off, benchmarks turn them off so that the
+     * console output is not part of the measurement.
+     *
+     * @param enabled - True to print the stats after every run.
+     */
+    public static void setPrintStats(boolean enabled){
+        printStats = enabled;
+    }
+
+    /**
+     * Method to make sure that the bandwidths for all 4 algorithms is exactly the same.
      * If it is not then a custom exception is raised.
      *
      * @param maxBwFromDijk - Max bandwidth value from Dijkstras without heap algo.
      * @param maxBwFromDijkWithHeap - Max bandwidth value from Dijkstras with heap algo.
      * @param maxBwFromKrushkals - Max bandwidth value from Krushkals algo.
+     * @param maxBwFromBoruvka - Max bandwidth value from Boruvka algo.
      * @throws Exception - Exception to report the invalid result as all algos should have the same bandwidth value.
      */
-    public void checkBW(int maxBwFromDijk, int maxBwFromDijkWithHeap, int maxBwFromKrushkals) throws Exception {
-        if (maxBwFromDijk != maxBwFromKrushkals || maxBwFromDijkWithHeap != maxBwFromKrushkals) {
+    public void checkBW(int maxBwFromDijk, int maxBwFromDijkWithHeap, int maxBwFromKrushkals, int maxBwFromBoruvka) throws Exception {
+        if (maxBwFromDijk != maxBwFromKrushkals || maxBwFromDijkWithHeap != maxBwFromKrushkals || maxBwFromBoruvka != maxBwFromKrushkals) {
             throw new Exception("Invalid result as Maximum Bandwidth value should be the same for all algos");
         }
         System.out.println("=======================");
@@ -236,10 +302,7 @@ public class Helper {
      * @param graph - Vertex object array which represents the entire graph.
      */
     private void reset(Vertex[] graph){
-        for(Vertex v : graph){
-            v.setStatus("unseen");
-            v.setBandwidth(0);
-            v.setDad(null);
-        }
+        for(Vertex v : graph)
+            v.reset();
     }
 }
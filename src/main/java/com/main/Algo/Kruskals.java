@@ -1,16 +1,16 @@
 package com.main.Algo;
 
+import com.main.Graph.CompactGraph;
 import com.main.Graph.Edge;
+import com.main.Graph.MappedGraph;
 import com.main.Graph.Vertex;
-import com.main.Heap.Heap;
 
+import java.util.Arrays;
 import java.util.LinkedList;
 
 public class Kruskals {
 
     int totalNumberOfVertices;
-    Edge[] allEdges;
-    Heap heap;
     Vertex[] T;
 
     /**
@@ -20,14 +20,12 @@ public class Kruskals {
      */
     public Kruskals(int totalNumberOfVertices){
         this.totalNumberOfVertices = totalNumberOfVertices;
-        this.allEdges = new Edge[(this.totalNumberOfVertices*this.totalNumberOfVertices)/2];
-        this.heap = new Heap((this.totalNumberOfVertices*this.totalNumberOfVertices)/2);
         this.T = new Vertex[totalNumberOfVertices];
     }
 
     /**
      * This method runs the Kruskal's algorithm.
-     * Time Complexity: O(m * log m)
+     * Time Complexity: O(m * log m), the edge sort is spread over all cores.
      *
      * @param graph - Vertex object array which represents the entire graph.
      * @param edges - LinkedList of all the edges object of the above-mentioned graph.
@@ -38,21 +36,27 @@ public class Kruskals {
         long start = System.currentTimeMillis();
 
         for(int i=0; i<totalNumberOfVertices; ++i)
-            T[i] = makeSet(graph[i]);
-
-        generateHeapAndEdges(edges);
-        int[] sortedEdges = heap.sort();
-
-        for(int i=0; i<heap.getHeapSize(); ++i){
-            Edge maxEdge = allEdges[sortedEdges[i]];
-            Vertex u = maxEdge.getSource();
-            Vertex v = maxEdge.getDestination();
+            T[i] = new Vertex(graph[i].getId());
+        DisjointSet sets = new DisjointSet(totalNumberOfVertices);
+
+        //Packing the edges into primitive arrays sized to the real edge count
+        int numberOfEdges = edges.size();
+        int[] edgeU = new int[numberOfEdges];
+        int[] edgeV = new int[numberOfEdges];
+        int[] edgeW = new int[numberOfEdges];
+        int i = 0;
+        for(Edge e : edges){
+            edgeU[i] = e.getDestination().getId(); edgeV[i] = e.getSource().getId(); edgeW[i] = e.getWeight();
+            i++;
+        }
+        long[] sortedEdges = sortByWeight(edgeW, numberOfEdges);
 
-            Vertex rootU = find(u);
-            Vertex rootV = find(v);
-            if(rootV != rootU)
-                union(T, rootU, rootV, maxEdge);
+        for(int e=numberOfEdges-1; e>=0; --e){
+            int maxEdge = (int) sortedEdges[e];
+            if(sets.union(edgeU[maxEdge], edgeV[maxEdge]))
+                connect(T[edgeU[maxEdge]], T[edgeV[maxEdge]], edgeW[maxEdge], maxEdge);
         }
+        Metrics.global().recordUnionFind(sets);
 
         runtime[0] = Helper.endTimerAndPrintStats(start, "Krushkals on ", typeOfGraph);
 
@@ -60,79 +64,137 @@ public class Kruskals {
     }
 
     /**
-     * This method creates new disjoint vertex copy.
+     * This method connects two tree vertices to each other by adding an edge along with its backEdge.
      *
-     * @param v - Vertex whose disjoint copy needs to be created.
-     * @return - The newly created vertex.
+     * @param u - First vertex to be connected.
+     * @param v - Second vertex to be connected.
+     * @param weight - Weight of the edge.
+     * @param id - Index of the edge in the packed edge arrays.
      */
-    private Vertex makeSet(Vertex v) {
-        return new Vertex(v.getId());
+    private void connect(Vertex u, Vertex v, int weight, int id){
+        u.getNeighbors().add(new Edge(u, v, weight, id));
+        v.getNeighbors().add(new Edge(v, u, weight, id));
     }
 
     /**
-     * This method find root of the given vertex
+     * This method sorts the edges by weight with a parallel sort. Every edge is packed into one long as
+     * (weight << 32 | edge index), so the sort moves no objects and ties are broken by edge index.
      *
-     * @param v - Vertex whose root needs to be found.
-     * @return - Root of vertex v.
+     * @param weights - Weight of every edge.
+     * @param numberOfEdges - Number of valid entries in weights.
+     * @return - Packed edges in non-decreasing order of weight, the edge index is the lower 32 bits.
      */
-    private Vertex find(Vertex v){
-        Vertex r = v;
-        LinkedList<Vertex> s = new LinkedList<>();
-        int vCount = 0;
-        while(r.getDad() != null){
-            s.add(r);
-            r = r.getDad();
-            ++vCount;
-        }
+    static long[] sortByWeight(int[] weights, int numberOfEdges){
+        long[] packed = new long[numberOfEdges];
+        for(int i=0; i<numberOfEdges; ++i)
+            packed[i] = ((long) weights[i] << 32) | i;
+        Arrays.parallelSort(packed);
+        return packed;
+    }
 
-        while(vCount != 0){
-            Vertex w = s.remove();
-            w.setDad(r);
-            --vCount;
-        }
+    /**
+     * This method runs the Kruskal's algorithm directly on the CSR arrays of a CompactGraph.
+     * Time Complexity: O(m * log m)
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @param typeOfGraph - String to specify whether the algorithm is being run on sparse or dense graph.
+     * @return - Maximum spanning tree (forest for disconnected graphs) in CSR form.
+     */
+    public CompactGraph kruskals(CompactGraph graph, String typeOfGraph, double[] runtime){
+        long start = System.currentTimeMillis();
+        CompactGraph T = maximumSpanningTree(graph);
+        runtime[0] = Helper.endTimerAndPrintStats(start, "Krushkals (CSR) on ", typeOfGraph);
 
-        return r;
+        return T;
     }
 
     /**
-     * This method connects two vertices to each other by adding an edge.
+     * This method builds the maximum spanning tree of a CompactGraph without printing any stats.
      *
-     * @param T - Graph where the vertices are to be connected.
-     * @param r1 - First vertex to be connected.
-     * @param r2 - Second vertex to be connected.
-     * @param maxEdge - Edge used to connect r1 and r2 vertex.
+     * @param graph - CompactGraph which represents the entire graph.
+     * @return - Maximum spanning tree (forest for disconnected graphs) in CSR form.
      */
-    private void union(Vertex[] T, Vertex r1, Vertex r2, Edge maxEdge){
-        if(r1.getRank() > r2.getRank()) {
-            r2.setDad(r1);
-        } else if(r1.getRank() < r2.getRank()) {
-            r1.setDad(r2);
-        } else {
-            r1.setDad(r2);
-            r2.setRank(r2.getRank()+1);
+    public static CompactGraph maximumSpanningTree(CompactGraph graph){
+        int numberOfVertices = graph.getNumberOfVertices();
+        int numberOfEdges = graph.getNumberOfEdges();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] weights = graph.getWeights();
+
+        //Every undirected edge is stored twice, only the arc with u < v is kept
+        int[] edgeU = new int[numberOfEdges];
+        int[] edgeV = new int[numberOfEdges];
+        int[] edgeW = new int[numberOfEdges];
+        int i = 0;
+        for(int u=0; u<numberOfVertices; ++u){
+            for(int arc = offsets[u]; arc < offsets[u+1]; ++arc){
+                if(targets[arc] <= u)
+                    continue;
+                edgeU[i] = u; edgeV[i] = targets[arc]; edgeW[i] = weights[arc];
+                i++;
+            }
         }
-
-        //Make edge between r1 and r2 vertex along with backEdge
-        LinkedList<Edge> neighbors = T[r1.getId()].getNeighbors();
-        neighbors.add(maxEdge);
-
-        LinkedList<Edge> destinationNeighbors = T[r2.getId()].getNeighbors();
-        Edge backEdge = new Edge(maxEdge.getDestination(), maxEdge.getSource(), maxEdge.getWeight());
-        destinationNeighbors.add(backEdge);
+        return spanningTree(numberOfVertices, edgeU, edgeV, edgeW, numberOfEdges);
     }
 
     /**
-     * This method generates new edge object and stores them in array and edge heap.
+     * This method builds the maximum spanning tree of a memory-mapped graph. Only the edge list and the tree
+     * are allocated, the graph itself is read in place.
      *
-     * @param edges - LinkedList containing all the edges of graph.
+     * @param graph - MappedGraph which represents the entire graph.
+     * @return - Maximum spanning tree (forest for disconnected graphs) in CSR form.
      */
-    private void generateHeapAndEdges(LinkedList<Edge> edges){
+    public static CompactGraph maximumSpanningTree(MappedGraph graph){
+        int numberOfVertices = graph.getNumberOfVertices();
+        int numberOfEdges = graph.getNumberOfEdges();
+
+        //Every undirected edge is stored twice, only the arc with u < v is kept
+        int[] edgeU = new int[numberOfEdges];
+        int[] edgeV = new int[numberOfEdges];
+        int[] edgeW = new int[numberOfEdges];
         int i = 0;
-        for(Edge e : edges){
-            Edge edge = new Edge(T[e.getDestination().getId()], T[e.getSource().getId()], e.getWeight(), i);
-            this.heap.insert(edge.getId(), edge.getWeight());
-            this.allEdges[i] = edge;
-            i++;
+        for(int u=0; u<numberOfVertices; ++u){
+            for(int arc = graph.offset(u); arc < graph.offset(u+1); ++arc){
+                int v = graph.target(arc);
+                if(v <= u)
+                    continue;
+                edgeU[i] = u; edgeV[i] = v; edgeW[i] = graph.weight(arc);
+                i++;
+            }
         }
+        return spanningTree(numberOfVertices, edgeU, edgeV, edgeW, numberOfEdges);
+    }
+
+    /**
+     * This method runs the Kruskal's algorithm on packed edge arrays.
+     *
+     * @param numberOfVertices - Total number of vertices in the graph.
+     * @param edgeU - First end of every edge.
+     * @param edgeV - Second end of every edge.
+     * @param edgeW - Weight of every edge.
+     * @param numberOfEdges - Number of valid entries in the above arrays.
+     * @return - Maximum spanning tree (forest for disconnected graphs) in CSR form.
+     */
+    private static CompactGraph spanningTree(int numberOfVertices, int[] edgeU, int[] edgeV, int[] edgeW,
+                                             int numberOfEdges){
+        long[] sortedEdges = sortByWeight(edgeW, numberOfEdges);
+
+        DisjointSet sets = new DisjointSet(numberOfVertices);
+
+        int[] treeU = new int[Math.max(numberOfVertices-1, 0)];
+        int[] treeV = new int[treeU.length];
+        int[] treeW = new int[treeU.length];
+        int treeSize = 0;
+        for(int e=numberOfEdges-1; e>=0 && treeSize < treeU.length; --e){
+            int maxEdge = (int) sortedEdges[e];
+            if(!sets.union(edgeU[maxEdge], edgeV[maxEdge]))
+                continue;
+
+            treeU[treeSize] = edgeU[maxEdge]; treeV[treeSize] = edgeV[maxEdge]; treeW[treeSize] = edgeW[maxEdge];
+            treeSize++;
+        }
+        Metrics.global().recordUnionFind(sets);
+
+        return CompactGraph.fromEdges(numberOfVertices, treeU, treeV, treeW, treeSize);
     }
 }
@@ -0,0 +1,115 @@
+package com.main.Algo;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies in nanoseconds with log-linear buckets: every power of two is split in 16
+ * buckets, so any percentile is within 1/16 of the recorded value while the whole range of a long fits in
+ * under a thousand counters. Recording is a few atomic adds, cheap enough to leave on for every query.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final int NUMBER_OF_BUCKETS = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(NUMBER_OF_BUCKETS);
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder total = new LongAdder();
+
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Method to record one latency.
+     *
+     * @param nanos - Latency in nanoseconds, negative values are recorded as 0.
+     */
+    public void record(long nanos){
+        nanos = Math.max(0, nanos);
+        this.counts.incrementAndGet(bucketOf(nanos));
+        this.count.increment();
+        this.total.add(nanos);
+        if(nanos > this.max.get())
+            this.max.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Method to find the latency below which the given fraction of the recorded latencies fall. Recording
+     * may go on concurrently, the answer then reflects some moment during the call.
+     *
+     * @param fraction - Fraction between 0 and 1, 0.99 for the 99th percentile.
+     * @return - Upper end of the bucket holding the percentile in nanoseconds, 0 if nothing was recorded.
+     */
+    public long percentile(double fraction){
+        long[] snapshot = new long[NUMBER_OF_BUCKETS];
+        long recorded = 0;
+        for(int b=0; b<NUMBER_OF_BUCKETS; ++b){
+            snapshot[b] = this.counts.get(b);
+            recorded += snapshot[b];
+        }
+        if(recorded == 0)
+            return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(fraction * recorded));
+        long seen = 0;
+        for(int b=0; b<NUMBER_OF_BUCKETS; ++b){
+            seen += snapshot[b];
+            if(seen >= rank)
+                return Math.min(highestValueOf(b), getMax());
+        }
+        return getMax();
+    }
+
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    public long getMax() {
+        return this.max.get();
+    }
+
+    public double getMean() {
+        long recorded = this.count.sum();
+        return (recorded == 0) ? 0 : (double) this.total.sum() / recorded;
+    }
+
+    /**
+     * Method to drop every recorded latency.
+     */
+    public void reset(){
+        for(int b=0; b<NUMBER_OF_BUCKETS; ++b)
+            this.counts.set(b, 0);
+        this.count.reset();
+        this.total.reset();
+        this.max.set(0);
+    }
+
+    /**
+     * Method to find the bucket of a latency. Values below SUB_BUCKETS get a bucket each, larger values are
+     * bucketed by their highest bit and the SUB_BUCKET_BITS bits below it.
+     *
+     * @param nanos - Non negative latency.
+     * @return - Index of the bucket.
+     */
+    private static int bucketOf(long nanos){
+        if(nanos < SUB_BUCKETS)
+            return (int) nanos;
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int mantissa = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + mantissa;
+    }
+
+    private static long highestValueOf(int bucket){
+        if(bucket < SUB_BUCKETS)
+            return bucket;
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,284 @@
+package com.main.Algo;
+
+import com.main.Heap.MaxPriorityQueue;
+import com.main.Heap.QueueCounters;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process wide counters of the algorithms and the latency histogram of the queries. Searches count into
+ * local variables and plain per queue fields while they run, and add everything here once when they are
+ * done, so the hot loops never touch shared memory and the metrics can stay on in production. Counters are
+ * LongAdders, so concurrent queries do not contend on them either.
+ *
+ * Query latencies are recorded by the point to point queries of Dijkstras, DeltaStepping and BottleneckIndex,
+ * and once per search by the batches of QueryRunner. Priority queues also count how many sift steps every
+ * single operation took, which shows whether the queue depth or the number of operations dominates.
+ *
+ * The same numbers are available through JMX after registerMBean, or through the getters.
+ */
+public class Metrics implements MetricsMXBean {
+
+    public static final String OBJECT_NAME = "com.main:type=Metrics";
+
+    private static final Metrics GLOBAL = new Metrics();
+
+    private volatile boolean enabled = true;
+
+    private final LongAdder searches = new LongAdder();
+
+    private final LongAdder verticesSettled = new LongAdder();
+
+    private final LongAdder edgesRelaxed = new LongAdder();
+
+    private final LongAdder heapInserts = new LongAdder();
+
+    private final LongAdder heapAdjusts = new LongAdder();
+
+    private final LongAdder heapDeletes = new LongAdder();
+
+    private final LongAdder heapSiftSteps = new LongAdder();
+
+    private final LongAdder[] heapSiftDepths = new LongAdder[QueueCounters.SIFT_DEPTHS];
+
+    private final LongAdder unionFindFinds = new LongAdder();
+
+    private final LongAdder unionFindUnions = new LongAdder();
+
+    private final LatencyHistogram queryLatency = new LatencyHistogram();
+
+    public Metrics(){
+        for(int depth=0; depth<this.heapSiftDepths.length; ++depth)
+            this.heapSiftDepths[depth] = new LongAdder();
+    }
+
+    public static Metrics global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Method to publish the global metrics on the platform MBean server. Registering more than once is
+     * harmless.
+     *
+     * @throws JMException - If the MBean server refused the registration.
+     */
+    public static void registerMBean() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.registerMBean(GLOBAL, new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            //Already published
+        }
+    }
+
+    /**
+     * Method to add the counts of one finished search. The counts of the queue are reset so that the next
+     * search using the same queue starts from 0.
+     *
+     * @param settled - Number of vertices put in the tree.
+     * @param relaxed - Number of arcs relaxed.
+     * @param queue - Priority queue used by the search, null if it used none.
+     */
+    void recordSearch(long settled, long relaxed, MaxPriorityQueue queue){
+        if(queue != null)
+            recordQueue(queue);
+        if(!this.enabled)
+            return;
+        this.searches.increment();
+        this.verticesSettled.add(settled);
+        this.edgesRelaxed.add(relaxed);
+    }
+
+    /**
+     * Method to add the operation counts of a priority queue and reset them, for searches using two queues.
+     *
+     * @param queue - Priority queue used by a finished search.
+     */
+    void recordQueue(MaxPriorityQueue queue){
+        QueueCounters counters = queue.getCounters();
+        if(this.enabled) {
+            this.heapInserts.add(counters.getInserts());
+            this.heapAdjusts.add(counters.getAdjusts());
+            this.heapDeletes.add(counters.getDeletes());
+            this.heapSiftSteps.add(counters.getSiftSteps());
+            for(int depth=0; depth<this.heapSiftDepths.length; ++depth){
+                long operations = counters.getSiftDepthCount(depth);
+                if(operations != 0)
+                    this.heapSiftDepths[depth].add(operations);
+            }
+        }
+        counters.reset();
+    }
+
+    /**
+     * Method to add the operation counts of a union-find structure which is no longer used.
+     *
+     * @param sets - DisjointSet of a finished spanning tree run.
+     */
+    void recordUnionFind(DisjointSet sets){
+        if(!this.enabled)
+            return;
+        this.unionFindFinds.add(sets.getFinds());
+        this.unionFindUnions.add(sets.getUnions());
+    }
+
+    /**
+     * Method to record the latency of one answered query.
+     *
+     * @param startNanos - System.nanoTime() read when the query started.
+     */
+    void recordQuery(long startNanos){
+        if(this.enabled)
+            this.queryLatency.record(System.nanoTime() - startNanos);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public long getSearches() {
+        return this.searches.sum();
+    }
+
+    @Override
+    public long getVerticesSettled() {
+        return this.verticesSettled.sum();
+    }
+
+    @Override
+    public long getEdgesRelaxed() {
+        return this.edgesRelaxed.sum();
+    }
+
+    @Override
+    public long getHeapInserts() {
+        return this.heapInserts.sum();
+    }
+
+    @Override
+    public long getHeapAdjusts() {
+        return this.heapAdjusts.sum();
+    }
+
+    @Override
+    public long getHeapDeletes() {
+        return this.heapDeletes.sum();
+    }
+
+    @Override
+    public long getHeapSiftSteps() {
+        return this.heapSiftSteps.sum();
+    }
+
+    @Override
+    public long[] getHeapSiftDepths() {
+        long[] depths = new long[this.heapSiftDepths.length];
+        for(int depth=0; depth<depths.length; ++depth)
+            depths[depth] = this.heapSiftDepths[depth].sum();
+        return depths;
+    }
+
+    @Override
+    public long getUnionFindFinds() {
+        return this.unionFindFinds.sum();
+    }
+
+    @Override
+    public long getUnionFindUnions() {
+        return this.unionFindUnions.sum();
+    }
+
+    @Override
+    public long getQueries() {
+        return this.queryLatency.getCount();
+    }
+
+    @Override
+    public double getQueryLatencyMeanMicros() {
+        return this.queryLatency.getMean() / 1000;
+    }
+
+    @Override
+    public double getQueryLatencyP50Micros() {
+        return this.queryLatency.percentile(0.5) / 1000.0;
+    }
+
+    @Override
+    public double getQueryLatencyP90Micros() {
+        return this.queryLatency.percentile(0.9) / 1000.0;
+    }
+
+    @Override
+    public double getQueryLatencyP99Micros() {
+        return this.queryLatency.percentile(0.99) / 1000.0;
+    }
+
+    @Override
+    public double getQueryLatencyP999Micros() {
+        return this.queryLatency.percentile(0.999) / 1000.0;
+    }
+
+    @Override
+    public double getQueryLatencyMaxMicros() {
+        return this.queryLatency.getMax() / 1000.0;
+    }
+
+    public LatencyHistogram getQueryLatency() {
+        return this.queryLatency;
+    }
+
+    @Override
+    public void reset() {
+        this.searches.reset();
+        this.verticesSettled.reset();
+        this.edgesRelaxed.reset();
+        this.heapInserts.reset();
+        this.heapAdjusts.reset();
+        this.heapDeletes.reset();
+        this.heapSiftSteps.reset();
+        for(LongAdder depth : this.heapSiftDepths)
+            depth.reset();
+        this.unionFindFinds.reset();
+        this.unionFindUnions.reset();
+        this.queryLatency.reset();
+    }
+
+    /**
+     * Method to describe the metrics on one line. The sift depths are listed up to the deepest one seen, and
+     * the query latencies are left out until a query was answered.
+     *
+     * @return - The metrics in key=value form.
+     */
+    @Override
+    public String toString() {
+        long[] depths = getHeapSiftDepths();
+        int deepest = depths.length;
+        while(deepest > 0 && depths[deepest-1] == 0)
+            deepest--;
+
+        String result = "searches=" + getSearches() + ", verticesSettled=" + getVerticesSettled()
+                + ", edgesRelaxed=" + getEdgesRelaxed() + ", heapInserts=" + getHeapInserts()
+                + ", heapAdjusts=" + getHeapAdjusts() + ", heapDeletes=" + getHeapDeletes()
+                + ", heapSiftSteps=" + getHeapSiftSteps()
+                + ", heapSiftDepths=" + Arrays.toString(Arrays.copyOf(depths, deepest))
+                + ", unionFindFinds=" + getUnionFindFinds() + ", unionFindUnions=" + getUnionFindUnions();
+        if(getQueries() == 0)
+            return result;
+        return result + ", queries=" + getQueries()
+                + String.format(", queryLatencyMicros(p50/p99/max)=%.1f/%.1f/%.1f",
+                getQueryLatencyP50Micros(), getQueryLatencyP99Micros(), getQueryLatencyMaxMicros());
+    }
+}
@@ -0,0 +1,63 @@
+package com.main.Algo;
+
+/**
+ * Management interface of Metrics, shown by JMX clients such as jconsole under Metrics.OBJECT_NAME.
+ * Latencies are in microseconds.
+ */
+public interface MetricsMXBean {
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    long getSearches();
+
+    long getVerticesSettled();
+
+    long getEdgesRelaxed();
+
+    long getHeapInserts();
+
+    long getHeapAdjusts();
+
+    long getHeapDeletes();
+
+    long getHeapSiftSteps();
+
+    /**
+     * Histogram of the sift steps taken by single queue operations, entry d counts the inserts, adjusts and
+     * deletes which took exactly d steps, the last entry also the deeper ones.
+     *
+     * @return - Number of operations per sift depth.
+     */
+    long[] getHeapSiftDepths();
+
+    long getUnionFindFinds();
+
+    /**
+     * Number of union calls which merged two different sets, calls on elements already in the same set are
+     * only counted by their finds.
+     *
+     * @return - Merges done by the spanning tree runs.
+     */
+    long getUnionFindUnions();
+
+    long getQueries();
+
+    double getQueryLatencyMeanMicros();
+
+    double getQueryLatencyP50Micros();
+
+    double getQueryLatencyP90Micros();
+
+    double getQueryLatencyP99Micros();
+
+    double getQueryLatencyP999Micros();
+
+    double getQueryLatencyMaxMicros();
+
+    /**
+     * Method to set every counter and the latency histogram back to 0.
+     */
+    void reset();
+}
@@ -0,0 +1,34 @@
+package com.main.Algo;
+
+/**
+ * Answer of a single maximum bandwidth query.
+ */
+public class PathResult {
+
+    private final int bandwidth;
+
+    private final int[] path;
+
+    /**
+     * Constructor to create a query answer.
+     *
+     * @param bandwidth - Maximum bandwidth from source to destination, 0 if the destination is unreachable.
+     * @param path - Vertices from source to destination, empty if the destination is unreachable.
+     */
+    public PathResult(int bandwidth, int[] path){
+        this.bandwidth = bandwidth;
+        this.path = path;
+    }
+
+    public int getBandwidth() {
+        return this.bandwidth;
+    }
+
+    public int[] getPath() {
+        return this.path;
+    }
+
+    public boolean isReachable() {
+        return this.path.length > 0;
+    }
+}
@@ -0,0 +1,206 @@
+package com.main.Algo;
+
+import com.main.Graph.CompactGraph;
+import com.main.Heap.QueueType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs many maximum bandwidth queries in parallel against one read-only CompactGraph. Every worker thread
+ * searches with its own pooled SearchContext, so queries never share mutable state.
+ */
+public class QueryRunner implements AutoCloseable {
+
+    private final CompactGraph graph;
+
+    private final Dijkstras dijkstras;
+
+    private final ExecutorService executor;
+
+    /**
+     * Constructor to create a runner backed by a fixed size thread pool, searching with the engine picked by the
+     * density of the graph.
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @param numberOfThreads - Number of worker threads.
+     */
+    public QueryRunner(CompactGraph graph, int numberOfThreads){
+        this(graph, numberOfThreads, new Dijkstras(0));
+    }
+
+    /**
+     * Constructor to create a runner backed by a fixed size thread pool using the given priority queue.
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @param numberOfThreads - Number of worker threads.
+     * @param queueType - Type of priority queue used by the searches.
+     */
+    public QueryRunner(CompactGraph graph, int numberOfThreads, QueueType queueType){
+        this(graph, numberOfThreads, new Dijkstras(0, queueType));
+    }
+
+    private QueryRunner(CompactGraph graph, int numberOfThreads, Dijkstras dijkstras){
+        this.graph = graph;
+        this.dijkstras = dijkstras;
+        this.executor = Executors.newFixedThreadPool(numberOfThreads, runnable -> {
+            Thread thread = new Thread(runnable, "bandwidth-query");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Method to answer a single query on the calling thread.
+     *
+     * @param sourceIndex - Index of the source vertex.
+     * @param destinationIndex - Index of the destination vertex.
+     * @return - The maximum bandwidth from source to destination, 0 if it is unreachable.
+     */
+    public int maxBandwidth(int sourceIndex, int destinationIndex){
+        return query(sourceIndex, destinationIndex).getBandwidth();
+    }
+
+    /**
+     * Method to answer a single query with its path on the calling thread. The search stops as soon as the
+     * destination is settled.
+     *
+     * @param sourceIndex - Index of the source vertex.
+     * @param destinationIndex - Index of the destination vertex.
+     * @return - Maximum bandwidth and path from source to destination.
+     */
+    public PathResult query(int sourceIndex, int destinationIndex){
+        SearchContext context = SearchContext.acquire(this.graph.getNumberOfVertices());
+        return this.dijkstras.query(this.graph, sourceIndex, destinationIndex, context);
+    }
+
+    /**
+     * Method to answer a single query with the bidirectional search on the calling thread.
+     *
+     * @param sourceIndex - Index of the source vertex.
+     * @param destinationIndex - Index of the destination vertex.
+     * @return - Maximum bandwidth and path from source to destination.
+     */
+    public PathResult bidirectionalQuery(int sourceIndex, int destinationIndex){
+        SearchContext context = SearchContext.acquire(this.graph.getNumberOfVertices());
+        return this.dijkstras.bidirectionalQuery(this.graph, sourceIndex, destinationIndex, context);
+    }
+
+    /**
+     * Method to answer a batch of queries in parallel on the thread pool.
+     *
+     * @param sourceIndices - Index of the source vertex of every query.
+     * @param destinationIndices - Index of the destination vertex of every query.
+     * @return - The maximum bandwidth of every query, in the same order as the input.
+     * @throws InterruptedException - If the calling thread is interrupted while waiting for the results.
+     * @throws ExecutionException - If any of the queries failed.
+     */
+    public int[] maxBandwidths(int[] sourceIndices, int[] destinationIndices)
+            throws InterruptedException, ExecutionException {
+        List<Callable<Integer>> tasks = new ArrayList<>(sourceIndices.length);
+        for(int i=0; i<sourceIndices.length; ++i){
+            int source = sourceIndices[i];
+            int destination = destinationIndices[i];
+            tasks.add(() -> maxBandwidth(source, destination));
+        }
+
+        List<Future<Integer>> futures = this.executor.invokeAll(tasks);
+        int[] result = new int[futures.size()];
+        for(int i=0; i<result.length; ++i)
+            result[i] = futures.get(i).get();
+        return result;
+    }
+
+    /**
+     * Method to answer one source with many destinations with a single search.
+     *
+     * @param sourceIndex - Index of the source vertex.
+     * @param destinationIndices - Index of every destination vertex.
+     * @return - Bandwidth and path of every destination, in the same order as the input.
+     * @throws InterruptedException - If the calling thread is interrupted while waiting for the results.
+     * @throws ExecutionException - If the search failed.
+     */
+    public BatchResult batch(int sourceIndex, int[] destinationIndices)
+            throws InterruptedException, ExecutionException {
+        int[] sourceIndices = new int[destinationIndices.length];
+        Arrays.fill(sourceIndices, sourceIndex);
+        return batch(sourceIndices, destinationIndices);
+    }
+
+    /**
+     * Method to answer a batch of queries with one search per distinct source. Queries are grouped by source
+     * and the groups are searched in parallel on the thread pool. A source with a single destination stops
+     * its search at the destination, a source with many destinations searches the whole graph once.
+     *
+     * @param sourceIndices - Index of the source vertex of every query.
+     * @param destinationIndices - Index of the destination vertex of every query.
+     * @return - Bandwidth and path of every query, in the same order as the input.
+     * @throws InterruptedException - If the calling thread is interrupted while waiting for the results.
+     * @throws ExecutionException - If any of the searches failed.
+     */
+    public BatchResult batch(int[] sourceIndices, int[] destinationIndices)
+            throws InterruptedException, ExecutionException {
+        if(sourceIndices.length != destinationIndices.length)
+            throw new IllegalArgumentException("Every query needs one source and one destination");
+
+        //Sorting (source << 32 | query index) puts the queries of every source next to each other
+        int numberOfQueries = sourceIndices.length;
+        long[] order = new long[numberOfQueries];
+        for(int i=0; i<numberOfQueries; ++i)
+            order[i] = ((long) sourceIndices[i] << 32) | i;
+        Arrays.sort(order);
+
+        int[] bandwidths = new int[numberOfQueries];
+        int[][] paths = new int[numberOfQueries][];
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for(int from = 0; from < numberOfQueries; ){
+            int source = (int) (order[from] >>> 32);
+            int to = from + 1;
+            while(to < numberOfQueries && (int) (order[to] >>> 32) == source)
+                to++;
+
+            int groupFrom = from, groupTo = to;
+            tasks.add(() -> {
+                //Every query of a group is answered by the same search, so the group counts as one query
+                SearchContext context = SearchContext.acquire(this.graph.getNumberOfVertices());
+                if(groupTo - groupFrom == 1) {
+                    int query = (int) order[groupFrom];
+                    PathResult result = this.dijkstras.query(this.graph, source, destinationIndices[query], context);
+                    bandwidths[query] = result.getBandwidth();
+                    paths[query] = result.getPath();
+                    return null;
+                }
+
+                long start = System.nanoTime();
+                this.dijkstras.search(this.graph, source, context);
+                for(int i=groupFrom; i<groupTo; ++i){
+                    int query = (int) order[i];
+                    bandwidths[query] = context.getBandwidth(destinationIndices[query]);
+                    paths[query] = context.getPath(destinationIndices[query]);
+                }
+                Metrics.global().recordQuery(start);
+                return null;
+            });
+            from = to;
+        }
+
+        for(Future<Void> future : this.executor.invokeAll(tasks))
+            future.get();
+        return new BatchResult(sourceIndices.clone(), destinationIndices.clone(), bandwidths, paths, tasks.size());
+    }
+
+    public CompactGraph getGraph() {
+        return this.graph;
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdown();
+    }
+}
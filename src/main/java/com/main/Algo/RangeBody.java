@@ -0,0 +1,8 @@
+package com.main.Algo;
+
+/**
+ * Work applied to a range of indices by a RangeTask.
+ */
+interface RangeBody {
+    void run(int from, int to);
+}
@@ -0,0 +1,47 @@
+package com.main.Algo;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * RecursiveAction splitting an index range in halves until it is below the threshold, then running the body
+ * on every piece. Shared by the parallel engines for their per-vertex and per-source loops.
+ */
+class RangeTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int from;
+
+    private final int to;
+
+    private final int threshold;
+
+    //Tasks never leave the pool they run on, so the body is not serialized
+    private final transient RangeBody body;
+
+    /**
+     * Constructor to run the body over [from, to).
+     *
+     * @param from - First index of the range.
+     * @param to - End of the range, exclusive.
+     * @param threshold - Largest range run by a single task without splitting.
+     * @param body - Work applied to every piece of the range.
+     */
+    RangeTask(int from, int to, int threshold, RangeBody body){
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+        this.body = body;
+    }
+
+    @Override
+    protected void compute() {
+        if(this.to - this.from <= this.threshold) {
+            this.body.run(this.from, this.to);
+            return;
+        }
+        int middle = (this.from + this.to) >>> 1;
+        invokeAll(new RangeTask(this.from, middle, this.threshold, this.body),
+                new RangeTask(middle, this.to, this.threshold, this.body));
+    }
+}
@@ -0,0 +1,179 @@
+package com.main.Algo;
+
+import com.main.Heap.MaxPriorityQueue;
+import com.main.Heap.QueueType;
+
+import java.util.Arrays;
+
+/**
+ * Per query state of a maximum bandwidth search kept in primitive arrays, so that the graph itself stays
+ * read-only and can be shared by many concurrent queries. Contexts are pooled per thread and only the
+ * vertices touched by the previous search are cleared on reuse.
+ */
+public class SearchContext {
+    static final byte UNSEEN = 0;
+    static final byte FRINGER = 1;
+    static final byte IN_TREE = 2;
+
+    private static final ThreadLocal<SearchContext> POOL = new ThreadLocal<>();
+
+    final int[] bandwidth;
+    final int[] dad;
+    final byte[] status;
+
+    private final int[] touched;
+    private int touchedCount;
+
+    private SearchContext backward;
+
+    //Fringe keys of the array scan search and the maximum key of every block of them, created on first use
+    private int[] scanKeys;
+    private int[] scanBlockKeys;
+
+    private final MaxPriorityQueue[] queues = new MaxPriorityQueue[QueueType.values().length];
+    private final int[] queueMaxKeys = new int[QueueType.values().length];
+
+    /**
+     * Constructor to allocate the state arrays for graphs of up to numberOfVertices vertices.
+     *
+     * @param numberOfVertices - Total number of vertices in the graph.
+     */
+    public SearchContext(int numberOfVertices){
+        this.bandwidth = new int[numberOfVertices];
+        this.dad = new int[numberOfVertices];
+        this.status = new byte[numberOfVertices];
+        this.touched = new int[numberOfVertices];
+        Arrays.fill(this.dad, -1);
+    }
+
+    /**
+     * Method to get the calling thread's pooled context, creating a bigger one if the pooled context is too small.
+     * The returned context is already reset.
+     *
+     * @param numberOfVertices - Total number of vertices in the graph.
+     * @return - Reset SearchContext owned by the calling thread.
+     */
+    public static SearchContext acquire(int numberOfVertices){
+        SearchContext context = POOL.get();
+        if(context == null || context.capacity() < numberOfVertices){
+            context = new SearchContext(numberOfVertices);
+            POOL.set(context);
+        } else {
+            context.reset();
+        }
+        return context;
+    }
+
+    /**
+     * Method to get the companion context used for the backward half of a bidirectional search. It is created
+     * on first use with the same capacity and pooled together with this context.
+     *
+     * @return - Companion SearchContext.
+     */
+    SearchContext getBackward(){
+        if(this.backward == null)
+            this.backward = new SearchContext(capacity());
+        return this.backward;
+    }
+
+    /**
+     * Method to get the priority queue of the given type owned by this context, creating it on first use or
+     * when the graph has heavier edges than the existing queue was created for.
+     *
+     * @param type - Type of priority queue.
+     * @param maxKey - Largest key which will be inserted, the max edge weight of the graph.
+     * @return - Empty MaxPriorityQueue owned by this context.
+     */
+    MaxPriorityQueue getQueue(QueueType type, int maxKey){
+        int i = type.ordinal();
+        if(this.queues[i] == null || this.queueMaxKeys[i] < maxKey){
+            this.queues[i] = type.create(capacity(), maxKey);
+            this.queueMaxKeys[i] = maxKey;
+        }
+        return this.queues[i];
+    }
+
+    /**
+     * Method to get the fringe key array used by the array scan search, creating it on first use. Its contents
+     * are left over from the previous search.
+     *
+     * @return - Array of capacity() keys owned by this context.
+     */
+    int[] getScanKeys(){
+        if(this.scanKeys == null)
+            this.scanKeys = new int[capacity()];
+        return this.scanKeys;
+    }
+
+    /**
+     * Method to get the block maximum array used by the array scan search, creating it on first use. It has
+     * room for blocks of a single key, so any block size fits.
+     *
+     * @return - Array of capacity() block keys owned by this context.
+     */
+    int[] getScanBlockKeys(){
+        if(this.scanBlockKeys == null)
+            this.scanBlockKeys = new int[capacity()];
+        return this.scanBlockKeys;
+    }
+
+    /**
+     * Method to mark vertex v as touched by the current search so that reset can clear it later.
+     *
+     * @param v - Vertex being labelled for the first time.
+     */
+    void touch(int v){
+        this.touched[this.touchedCount++] = v;
+    }
+
+    /**
+     * Method to clear the state of every vertex touched by the last search.
+     */
+    public void reset(){
+        for(int i=0; i<this.touchedCount; ++i){
+            int v = this.touched[i];
+            this.status[v] = UNSEEN;
+            this.bandwidth[v] = 0;
+            this.dad[v] = -1;
+        }
+        this.touchedCount = 0;
+        for(MaxPriorityQueue queue : this.queues)
+            if(queue != null)
+                queue.clear();
+    }
+
+    /**
+     * Method to read the path found by the last search by following dad links from the destination.
+     *
+     * @param destination - Destination vertex.
+     * @return - Vertices from source to destination, or an empty array if the destination was not reached.
+     */
+    public int[] getPath(int destination){
+        if(this.status[destination] == UNSEEN)
+            return new int[0];
+
+        int length = 1;
+        for(int v = destination; this.dad[v] != -1; v = this.dad[v])
+            length++;
+
+        int[] path = new int[length];
+        int v = destination;
+        for(int i=length-1; i>=0; --i){
+            path[i] = v;
+            v = this.dad[v];
+        }
+        return path;
+    }
+
+    public int getBandwidth(int v) {
+        return this.bandwidth[v];
+    }
+
+    public int getDad(int v) {
+        return this.dad[v];
+    }
+
+    public int capacity() {
+        return this.status.length;
+    }
+}
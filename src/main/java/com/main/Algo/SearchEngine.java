@@ -0,0 +1,40 @@
+package com.main.Algo;
+
+import com.main.Graph.CompactGraph;
+
+/**
+ * Ways the CSR searches of Dijkstras can find the fringer with the largest bandwidth, selectable at runtime.
+ */
+public enum SearchEngine {
+    //Picks ARRAY_SCAN for dense graphs and HEAP otherwise
+    AUTO,
+    //Priority queue of the fringers, O(m * log n)
+    HEAP,
+    //Blocked scan of a contiguous key array of all vertices, O(n * sqrt(n) + m) without any queue maintenance
+    ARRAY_SCAN;
+
+    /**
+     * Method to check whether a graph is dense enough for the array scan. The scan reads about 2 * sqrt(n) keys
+     * per settled vertex, so once the average degree reaches sqrt(n) relaxing the arcs costs more than the
+     * scans and the scan is no slower than a priority queue, which also pays for reordering on every arc.
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @return - True if the graph should be searched with the array scan.
+     */
+    public static boolean isDense(CompactGraph graph){
+        int n = graph.getNumberOfVertices();
+        return graph.getNumberOfArcs() >= n * Math.sqrt(n);
+    }
+
+    /**
+     * Method to get the engine used for a graph, resolving AUTO by the density of the graph.
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @return - HEAP or ARRAY_SCAN.
+     */
+    public SearchEngine resolve(CompactGraph graph){
+        if(this != AUTO)
+            return this;
+        return isDense(graph) ? ARRAY_SCAN : HEAP;
+    }
+}
@@ -0,0 +1,92 @@
+package com.main.Algo;
+
+/**
+ * Complete maximum bandwidth tree of one source, kept after the search so that any destination can be
+ * answered without searching again. Instances are immutable.
+ */
+public class SourceTree {
+
+    private final int source;
+
+    private final int[] bandwidth;
+
+    private final int[] dad;
+
+    /**
+     * Constructor to copy the tree out of a finished full search.
+     *
+     * @param source - Source of the search.
+     * @param context - SearchContext holding the finished search.
+     * @param numberOfVertices - Total number of vertices in the graph.
+     */
+    SourceTree(int source, SearchContext context, int numberOfVertices){
+        this.source = source;
+        this.bandwidth = new int[numberOfVertices];
+        this.dad = new int[numberOfVertices];
+        System.arraycopy(context.bandwidth, 0, this.bandwidth, 0, numberOfVertices);
+        System.arraycopy(context.dad, 0, this.dad, 0, numberOfVertices);
+    }
+
+    /**
+     * Constructor to wrap the arrays of a finished search without copying them.
+     *
+     * @param source - Source of the search.
+     * @param bandwidth - Bandwidth of every vertex, 0 for unreachable vertices.
+     * @param dad - Dad of every vertex, -1 for the source and unreachable vertices.
+     */
+    SourceTree(int source, int[] bandwidth, int[] dad){
+        this.source = source;
+        this.bandwidth = bandwidth;
+        this.dad = dad;
+    }
+
+    /**
+     * Method to find the maximum bandwidth and path from the source to a destination.
+     * Time Complexity: O(length of the path)
+     *
+     * @param destinationIndex - Index of the destination vertex.
+     * @return - Maximum bandwidth and path from source to destination.
+     */
+    public PathResult query(int destinationIndex){
+        return new PathResult(this.bandwidth[destinationIndex], getPath(destinationIndex));
+    }
+
+    /**
+     * Method to read the path to a destination by following dad links.
+     *
+     * @param destinationIndex - Index of the destination vertex.
+     * @return - Vertices from source to destination, or an empty array if the destination is unreachable.
+     */
+    public int[] getPath(int destinationIndex){
+        if(this.bandwidth[destinationIndex] == 0)
+            return new int[0];
+
+        int length = 1;
+        for(int v = destinationIndex; this.dad[v] != -1; v = this.dad[v])
+            length++;
+
+        int[] path = new int[length];
+        int v = destinationIndex;
+        for(int i=length-1; i>=0; --i){
+            path[i] = v;
+            v = this.dad[v];
+        }
+        return path;
+    }
+
+    public int getSource() {
+        return this.source;
+    }
+
+    public int getBandwidth(int v) {
+        return this.bandwidth[v];
+    }
+
+    public int getDad(int v) {
+        return this.dad[v];
+    }
+
+    public int getNumberOfVertices() {
+        return this.bandwidth.length;
+    }
+}
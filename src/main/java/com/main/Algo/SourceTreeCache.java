@@ -0,0 +1,164 @@
+package com.main.Algo;
+
+import com.main.Graph.CompactGraph;
+import com.main.Heap.QueueType;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of complete single source maximum bandwidth trees, evicting the least recently used source
+ * when full. Repeated queries from the same source are answered from memory in O(path length).
+ *
+ * The cache is safe to share between threads. Trees are computed outside the lock, so two threads missing on
+ * the same source may both search; only one result is kept. Changing the graph drops every cached tree.
+ */
+public class SourceTreeCache {
+
+    private final int maxEntries;
+
+    private final Dijkstras dijkstras;
+
+    private final LinkedHashMap<Integer, SourceTree> trees;
+
+    private CompactGraph graph;
+
+    //Incremented on every graph change so searches started on an older graph are not cached
+    private long version;
+
+    private long hitCount;
+
+    private long missCount;
+
+    /**
+     * Constructor to create a cache holding at most maxEntries source trees, searching with the engine picked by
+     * the density of the graph.
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @param maxEntries - Maximum number of cached sources.
+     */
+    public SourceTreeCache(CompactGraph graph, int maxEntries){
+        this(graph, maxEntries, new Dijkstras(0));
+    }
+
+    /**
+     * Constructor to create a cache holding at most maxEntries source trees built with the given priority queue.
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @param maxEntries - Maximum number of cached sources.
+     * @param queueType - Type of priority queue used by the searches.
+     */
+    public SourceTreeCache(CompactGraph graph, int maxEntries, QueueType queueType){
+        this(graph, maxEntries, new Dijkstras(0, queueType));
+    }
+
+    private SourceTreeCache(CompactGraph graph, int maxEntries, Dijkstras dijkstras){
+        if(maxEntries <= 0)
+            throw new IllegalArgumentException("maxEntries must be positive");
+        this.graph = graph;
+        this.maxEntries = maxEntries;
+        this.dijkstras = dijkstras;
+        this.trees = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, SourceTree> eldest) {
+                return size() > SourceTreeCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Method to create a cache bounded by memory instead of number of entries. Every tree takes two ints per vertex.
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @param maxBytes - Memory budget for the cached trees.
+     * @return - The newly created cache, holding at least one tree.
+     */
+    public static SourceTreeCache withMemoryLimit(CompactGraph graph, long maxBytes){
+        long bytesPerTree = 2L * Integer.BYTES * Math.max(1, graph.getNumberOfVertices());
+        return new SourceTreeCache(graph, (int) Math.max(1, Math.min(Integer.MAX_VALUE, maxBytes / bytesPerTree)));
+    }
+
+    /**
+     * Method to get the complete tree of a source, searching the graph only if it is not cached.
+     *
+     * @param sourceIndex - Index of the source vertex.
+     * @return - Maximum bandwidth tree of the source.
+     */
+    public SourceTree getTree(int sourceIndex){
+        CompactGraph current;
+        long currentVersion;
+        synchronized(this) {
+            SourceTree tree = this.trees.get(sourceIndex);
+            if(tree != null) {
+                this.hitCount++;
+                return tree;
+            }
+            this.missCount++;
+            current = this.graph;
+            currentVersion = this.version;
+        }
+
+        SearchContext context = SearchContext.acquire(current.getNumberOfVertices());
+        this.dijkstras.search(current, sourceIndex, context);
+        SourceTree tree = new SourceTree(sourceIndex, context, current.getNumberOfVertices());
+
+        synchronized(this) {
+            if(currentVersion == this.version)
+                this.trees.put(sourceIndex, tree);
+        }
+        return tree;
+    }
+
+    /**
+     * Method to answer a query from the cached tree of the source.
+     *
+     * @param sourceIndex - Index of the source vertex.
+     * @param destinationIndex - Index of the destination vertex.
+     * @return - Maximum bandwidth and path from source to destination.
+     */
+    public PathResult query(int sourceIndex, int destinationIndex){
+        return getTree(sourceIndex).query(destinationIndex);
+    }
+
+    public int maxBandwidth(int sourceIndex, int destinationIndex){
+        return getTree(sourceIndex).getBandwidth(destinationIndex);
+    }
+
+    /**
+     * Method to replace the graph after a change, dropping every cached tree.
+     *
+     * @param graph - New CompactGraph.
+     */
+    public synchronized void setGraph(CompactGraph graph){
+        this.graph = graph;
+        invalidate();
+    }
+
+    /**
+     * Method to drop every cached tree.
+     */
+    public synchronized void invalidate(){
+        this.trees.clear();
+        this.version++;
+    }
+
+    public synchronized CompactGraph getGraph() {
+        return this.graph;
+    }
+
+    public synchronized int size() {
+        return this.trees.size();
+    }
+
+    public int getMaxEntries() {
+        return this.maxEntries;
+    }
+
+    public synchronized long getHitCount() {
+        return this.hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return this.missCount;
+    }
+}
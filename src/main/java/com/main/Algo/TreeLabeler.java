@@ -0,0 +1,138 @@
+package com.main.Algo;
+
+import com.main.Graph.CompactGraph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Labels every vertex of a maximum spanning tree with its parent and its bandwidth to a root in one pass,
+ * after which any query from that root is a walk up the parents. The traversal keeps its own stack of
+ * vertex ids instead of recursing, so trees shaped like a long path are labelled like any other.
+ *
+ * The input must be a tree or forest without parallel edges, as built by Kruskals or Boruvka. Every vertex
+ * is then reached from exactly one neighbour and only the arc back to the parent has to be skipped, so no
+ * seen array is needed and disjoint subtrees can be labelled in parallel.
+ */
+public class TreeLabeler {
+
+    private static final int INITIAL_STACK_SIZE = 64;
+
+    private final ForkJoinPool pool;
+
+    public TreeLabeler(){
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor to label subtrees in parallel on the given pool.
+     *
+     * @param pool - ForkJoinPool used by labelParallel.
+     */
+    public TreeLabeler(ForkJoinPool pool){
+        this.pool = pool;
+    }
+
+    /**
+     * This method labels the tree from the root on the calling thread.
+     * Time Complexity: O(n)
+     *
+     * @param tree - Maximum spanning tree (or forest) in CSR form.
+     * @param root - Index of the root vertex.
+     * @return - Bandwidth to the root and parent of every vertex, 0 and -1 for vertices in other trees.
+     */
+    public static SourceTree label(CompactGraph tree, int root){
+        int n = tree.getNumberOfVertices();
+        int[] bandwidth = new int[n];
+        int[] parent = new int[n];
+        Arrays.fill(parent, -1);
+        bandwidth[root] = Integer.MAX_VALUE;
+        labelSubtree(tree, root, bandwidth, parent, new int[INITIAL_STACK_SIZE]);
+        return new SourceTree(root, bandwidth, parent);
+    }
+
+    /**
+     * This method labels the tree from the root with the subtrees spread over the pool. The tree is expanded
+     * breadth first from the root until there are enough subtrees to keep every thread busy, then every
+     * subtree is labelled by its own task.
+     * Time Complexity: O(n) work, spread over all the threads of the pool.
+     *
+     * @param tree - Maximum spanning tree (or forest) in CSR form.
+     * @param root - Index of the root vertex.
+     * @return - Bandwidth to the root and parent of every vertex, 0 and -1 for vertices in other trees.
+     */
+    public SourceTree labelParallel(CompactGraph tree, int root){
+        int n = tree.getNumberOfVertices();
+        int[] offsets = tree.getOffsets();
+        int[] targets = tree.getTargets();
+        int[] weights = tree.getWeights();
+        int[] bandwidth = new int[n];
+        int[] parent = new int[n];
+        Arrays.fill(parent, -1);
+        bandwidth[root] = Integer.MAX_VALUE;
+
+        //queue[levelStart, levelEnd) is the deepest level reached so far, every level above it is labelled
+        int wantedSubtrees = 8 * this.pool.getParallelism();
+        int[] queue = new int[n];
+        int levelStart = 0, levelEnd = 1;
+        queue[0] = root;
+        while(levelEnd > levelStart && levelEnd - levelStart < wantedSubtrees){
+            int tail = levelEnd;
+            for(int i=levelStart; i<levelEnd; ++i){
+                int v = queue[i];
+                for(int arc = offsets[v]; arc < offsets[v+1]; ++arc){
+                    int w = targets[arc];
+                    if(w == parent[v])
+                        continue;
+                    parent[w] = v;
+                    bandwidth[w] = Math.min(bandwidth[v], weights[arc]);
+                    queue[tail++] = w;
+                }
+            }
+            levelStart = levelEnd;
+            levelEnd = tail;
+        }
+
+        this.pool.invoke(new RangeTask(levelStart, levelEnd, 1, (from, to) -> {
+            int[] stack = new int[INITIAL_STACK_SIZE];
+            for(int i=from; i<to; ++i)
+                stack = labelSubtree(tree, queue[i], bandwidth, parent, stack);
+        }));
+        return new SourceTree(root, bandwidth, parent);
+    }
+
+    /**
+     * Method to label every vertex below a labelled vertex, depth first with an explicit stack.
+     *
+     * @param tree - Maximum spanning tree (or forest) in CSR form.
+     * @param top - Vertex whose bandwidth and parent are already set.
+     * @param bandwidth - Bandwidth to the root of every vertex.
+     * @param parent - Parent of every vertex.
+     * @param stack - Scratch stack, grown when the subtree is wider than it.
+     * @return - The scratch stack, so a grown one can be reused for the next subtree.
+     */
+    static int[] labelSubtree(CompactGraph tree, int top, int[] bandwidth, int[] parent, int[] stack){
+        int[] offsets = tree.getOffsets();
+        int[] targets = tree.getTargets();
+        int[] weights = tree.getWeights();
+
+        int size = 0;
+        stack[size++] = top;
+        while(size > 0){
+            int v = stack[--size];
+            int vParent = parent[v];
+            int vBandwidth = bandwidth[v];
+            for(int arc = offsets[v]; arc < offsets[v+1]; ++arc){
+                int w = targets[arc];
+                if(w == vParent)
+                    continue;
+                parent[w] = v;
+                bandwidth[w] = Math.min(vBandwidth, weights[arc]);
+                if(size == stack.length)
+                    stack = Arrays.copyOf(stack, 2 * size);
+                stack[size++] = w;
+            }
+        }
+        return stack;
+    }
+}
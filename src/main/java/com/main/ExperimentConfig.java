@@ -0,0 +1,229 @@
+package com.main;
+
+import com.main.Graph.Graph;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Experiment parameters read from --key=value command line arguments. Every parameter has a default matching
+ * the original classroom setup, so running without arguments behaves as before.
+ *
+ * Supported keys: vertices, sparse-degree, dense-min-degree, dense-max-degree, graphs, pairs, seed, threads,
+ * scale, a comma separated list of vertex counts which switches to the scaling mode, output and format (csv or
+ * json) for the results file and input, a results file shown by the JavaFX viewer instead of running.
+ *
+ * When vertices is given, the dense degrees left to their defaults are scaled to the same fraction of the
+ * vertices as in the classroom setup and a default sparse degree is capped to the vertices.
+ */
+public class ExperimentConfig {
+
+    private int numberOfVertices = Graph.DEFAULT_NUMBER_OF_VERTICES;
+
+    private int sparseDegree = Graph.DEFAULT_SPARSE_DEGREE;
+
+    private int denseMinDegree = Graph.DEFAULT_DENSE_MIN_DEGREE;
+
+    private int denseMaxDegree = Graph.DEFAULT_DENSE_MAX_DEGREE;
+
+    private int numberOfGraphs = 5;
+
+    private int pairsPerGraph = 5;
+
+    private long seed = new Random().nextLong();
+
+    private int numberOfThreads = Runtime.getRuntime().availableProcessors();
+
+    private int[] scaleSizes = new int[0];
+
+    private Path output;
+
+    private String format;
+
+    private Path input;
+
+    /**
+     * Method to build a configuration from command line arguments.
+     *
+     * @param args - Arguments in the --key=value form.
+     * @return - Configuration with the defaults replaced by the given values.
+     */
+    public static ExperimentConfig parse(List<String> args){
+        ExperimentConfig config = new ExperimentConfig();
+        Set<String> keys = new HashSet<>();
+        for(String arg : args){
+            int separator = arg.indexOf('=');
+            if(!arg.startsWith("--") || separator < 0)
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+
+            String key = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            keys.add(key);
+            switch(key){
+                case "vertices": config.numberOfVertices = parseVertices(key, value); break;
+                case "sparse-degree": config.sparseDegree = parseDegree(key, value); break;
+                case "dense-min-degree": config.denseMinDegree = parseDegree(key, value); break;
+                case "dense-max-degree": config.denseMaxDegree = parseDegree(key, value); break;
+                case "graphs": config.numberOfGraphs = parsePositive(key, value); break;
+                case "pairs": config.pairsPerGraph = parsePositive(key, value); break;
+                case "seed": config.seed = Long.parseLong(value); break;
+                case "threads": config.numberOfThreads = parsePositive(key, value); break;
+                case "scale":
+                    config.scaleSizes = Arrays.stream(value.split(",")).mapToInt(size -> parseVertices(key, size.trim())).toArray();
+                    break;
+                case "output": config.output = Path.of(value); break;
+                case "format": config.format = value.toLowerCase(Locale.ROOT); break;
+                case "input": config.input = Path.of(value); break;
+                default: throw new IllegalArgumentException("Unknown parameter: --" + key);
+            }
+        }
+        if(keys.contains("vertices"))
+            config.scaleDegrees(keys);
+        //The scaling mode checks the degrees against each of its own vertex counts
+        if(!config.isScaling() && config.sparseDegree >= config.numberOfVertices)
+            throw new IllegalArgumentException("--sparse-degree must be smaller than --vertices (" + config.numberOfVertices + ")");
+        if(!config.isScaling() && config.denseMaxDegree >= config.numberOfVertices)
+            throw new IllegalArgumentException("--dense-max-degree must be smaller than --vertices (" + config.numberOfVertices + ")");
+        if(config.denseMaxDegree < config.denseMinDegree)
+            throw new IllegalArgumentException("--dense-max-degree must not be smaller than --dense-min-degree");
+        if(config.format == null)
+            config.format = (config.output != null) ? ResultsFile.formatOf(config.output) : "csv";
+        if(!config.format.equals("csv") && !config.format.equals("json"))
+            throw new IllegalArgumentException("--format must be csv or json");
+        return config;
+    }
+
+    public static ExperimentConfig parse(String[] args){
+        return parse(Arrays.asList(args));
+    }
+
+    private static int parsePositive(String key, String value){
+        int result = Integer.parseInt(value.replace("_", ""));
+        if(result <= 0)
+            throw new IllegalArgumentException("--" + key + " must be positive");
+        return result;
+    }
+
+    private static int parseDegree(String key, String value){
+        int result = parsePositive(key, value);
+        if(result < 2)
+            throw new IllegalArgumentException("--" + key + " must be at least 2");
+        return result;
+    }
+
+    private static int parseVertices(String key, String value){
+        int result = parsePositive(key, value);
+        if(result < 3)
+            throw new IllegalArgumentException("--" + key + " needs at least 3 vertices");
+        return result;
+    }
+
+    /**
+     * Method to scale the degrees left to their defaults to the configured number of vertices, keeping the
+     * fraction of the vertices the dense degrees had in the default graphs. They stay between 2 and
+     * numberOfVertices - 1.
+     *
+     * @param keys - Keys given on the command line, their values are kept.
+     */
+    private void scaleDegrees(Set<String> keys){
+        int n = this.numberOfVertices;
+        if(!keys.contains("sparse-degree"))
+            this.sparseDegree = Math.min(Graph.DEFAULT_SPARSE_DEGREE, n - 1);
+        if(!keys.contains("dense-min-degree"))
+            this.denseMinDegree = Math.min(scaleDegree(Graph.DEFAULT_DENSE_MIN_DEGREE, n), this.denseMaxDegree);
+        if(!keys.contains("dense-max-degree"))
+            this.denseMaxDegree = Math.max(scaleDegree(Graph.DEFAULT_DENSE_MAX_DEGREE, n), this.denseMinDegree);
+    }
+
+    private static int scaleDegree(int defaultDegree, int numberOfVertices){
+        long degree = (long) defaultDegree * numberOfVertices / Graph.DEFAULT_NUMBER_OF_VERTICES;
+        return (int) Math.max(2, Math.min(degree, numberOfVertices - 1));
+    }
+
+    /**
+     * Method to create the Graph of one iteration. Every graph gets its own seed derived from the configured one.
+     *
+     * @param graphNumber - Iteration number of the graph.
+     * @return - Newly generated Graph.
+     */
+    public Graph newGraph(int graphNumber){
+        return new Graph(this.seed + graphNumber, this.numberOfVertices, this.sparseDegree,
+                this.denseMinDegree, this.denseMaxDegree);
+    }
+
+    public boolean isScaling() {
+        return this.scaleSizes.length > 0;
+    }
+
+    public int getNumberOfVertices() {
+        return this.numberOfVertices;
+    }
+
+    public int getSparseDegree() {
+        return this.sparseDegree;
+    }
+
+    public int getDenseMinDegree() {
+        return this.denseMinDegree;
+    }
+
+    public int getDenseMaxDegree() {
+        return this.denseMaxDegree;
+    }
+
+    public int getNumberOfGraphs() {
+        return this.numberOfGraphs;
+    }
+
+    public int getPairsPerGraph() {
+        return this.pairsPerGraph;
+    }
+
+    public long getSeed() {
+        return this.seed;
+    }
+
+    public int getNumberOfThreads() {
+        return this.numberOfThreads;
+    }
+
+    public int[] getScaleSizes() {
+        return this.scaleSizes.clone();
+    }
+
+    /**
+     * Method to get the results file, null when the results go to the standard output.
+     *
+     * @return - Path of the results file or null.
+     */
+    public Path getOutput() {
+        return this.output;
+    }
+
+    public String getFormat() {
+        return this.format;
+    }
+
+    /**
+     * Method to get the results file to show instead of running the experiment, null to run it.
+     *
+     * @return - Path of a CSV results file or null.
+     */
+    public Path getInput() {
+        return this.input;
+    }
+
+    @Override
+    public String toString() {
+        return "vertices=" + this.numberOfVertices + ", sparse-degree=" + this.sparseDegree
+                + ", dense-degree=" + this.denseMinDegree + ".." + this.denseMaxDegree
+                + ", graphs=" + this.numberOfGraphs + ", pairs=" + this.pairsPerGraph
+                + ", seed=" + this.seed + ", threads=" + this.numberOfThreads
+                + (isScaling() ? ", scale=" + Arrays.toString(this.scaleSizes) : "");
+    }
+}
@@ -0,0 +1,79 @@
+package com.main;
+
+/**
+ * Outcome of running one algorithm for one source and destination pair, one row of a results file.
+ */
+public class ExperimentResult {
+
+    private final int iteration;
+
+    private final int graph;
+
+    private final String typeOfGraph;
+
+    private final int source;
+
+    private final int destination;
+
+    private final String algorithm;
+
+    private final int bandwidth;
+
+    private final double runtime;
+
+    /**
+     * Constructor to create a result row.
+     *
+     * @param iteration - Index of the source and destination pair over all graphs, starting at 1.
+     * @param graph - Number of the graph, starting at 1.
+     * @param typeOfGraph - Sparse or Dense.
+     * @param source - Index of the source vertex.
+     * @param destination - Index of the destination vertex.
+     * @param algorithm - Name of the algorithm.
+     * @param bandwidth - Maximum bandwidth found by the algorithm.
+     * @param runtime - Execution time in milliseconds.
+     */
+    public ExperimentResult(int iteration, int graph, String typeOfGraph, int source, int destination,
+                            String algorithm, int bandwidth, double runtime){
+        this.iteration = iteration;
+        this.graph = graph;
+        this.typeOfGraph = typeOfGraph;
+        this.source = source;
+        this.destination = destination;
+        this.algorithm = algorithm;
+        this.bandwidth = bandwidth;
+        this.runtime = runtime;
+    }
+
+    public int getIteration() {
+        return this.iteration;
+    }
+
+    public int getGraph() {
+        return this.graph;
+    }
+
+    public String getTypeOfGraph() {
+        return this.typeOfGraph;
+    }
+
+    public int getSource() {
+        return this.source;
+    }
+
+    public int getDestination() {
+        return this.destination;
+    }
+
+    public String getAlgorithm() {
+        return this.algorithm;
+    }
+
+    public int getBandwidth() {
+        return this.bandwidth;
+    }
+
+    public double getRuntime() {
+        return this.runtime;
+    }
+}
@@ -0,0 +1,161 @@
+package com.main;
+
+import com.main.Algo.Helper;
+import com.main.Algo.Metrics;
+import com.main.Graph.Graph;
+import com.main.Graph.Vertex;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Headless runner for the sparse and dense comparison of Dijkstras without heap, Dijkstras with heap, Kruskals
+ * and Boruvka. It does not depend on JavaFX, so it runs on servers without a display, and writes the results as CSV
+ * or JSON for the JavaFX viewer or any other tool.
+ *
+ * Usage: java -cp demo.jar com.main.ExperimentRunner --graphs=5 --pairs=5 --seed=1 --output=results.csv
+ * Without --output the results are written to the standard output and the algorithm logs to the standard error.
+ */
+public class ExperimentRunner {
+
+    public static final String DIJKSTRAS_WITHOUT_HEAP = "DijkstrasWithoutHeap";
+
+    public static final String DIJKSTRAS_WITH_HEAP = "DijkstrasWithHeap";
+
+    public static final String KRUSKALS = "Kruskals";
+
+    public static final String BORUVKA = "Boruvka";
+
+    private final ExperimentConfig config;
+
+    public ExperimentRunner(ExperimentConfig config){
+        this.config = config;
+    }
+
+    /**
+     * This method runs all 4 algorithms on every configured graph and source and destination pair.
+     *
+     * @return - One result per algorithm, pair and type of graph, in run order.
+     * @throws Exception - If the algorithms did not find the same maximum bandwidth.
+     */
+    public List<ExperimentResult> run() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(this.config.getNumberOfThreads());
+        try {
+            return run(pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private List<ExperimentResult> run(ForkJoinPool pool) throws Exception {
+        List<ExperimentResult> results = new ArrayList<>();
+        System.out.println("Experiment: " + this.config);
+
+        int iteration = 1;
+        for(int num = 1; num <= this.config.getNumberOfGraphs(); ++num) {
+            //Initializing classes
+            Helper helper = new Helper();
+            Random random = new Random(this.config.getSeed() + num);
+            Graph graph = this.config.newGraph(num);
+
+            //Getting graphs data
+            Vertex[] sparseGraph = graph.getSparseGraph();
+            Vertex[] denseGraph = graph.getDenseGraph();
+            int totalNumberOfVertices = graph.getTotalNumberOfVertices();
+
+            helper.printGraphDegree(sparseGraph, "SpareGraph");
+            helper.printGraphDegree(denseGraph, "DenseGraph");
+
+            //Running all 4 algorithms in a loop on different randomly selected source and destination vertices
+            System.out.println("\n\nRunning Algorithms:\n=======================");
+            for(int i = 1; i <= this.config.getPairsPerGraph(); ++i) {
+                //Randomly selecting source and destination vertices
+                int source = random.nextInt(totalNumberOfVertices);
+                int destination = random.nextInt(totalNumberOfVertices);
+
+                //while source and destination are the same, re-pick the destination vertex randomly again.
+                while(source == destination)
+                    destination = random.nextInt(totalNumberOfVertices);
+
+                runPair(helper, pool, graph, sparseGraph, "Sparse", num, iteration, source, destination, results);
+                runPair(helper, pool, graph, denseGraph, "Dense", num, iteration, source, destination, results);
+                iteration++;
+            }
+            System.out.println("\n\nPrinting table for comparison of execution time between algorithms for graph-"+num);
+            System.out.println(helper.printStatsTable());
+        }
+        return results;
+    }
+
+    /**
+     * This method runs all 4 algorithms for one source and destination pair on one graph.
+     *
+     * @param helper - Helper running the algorithms.
+     * @param pool - ForkJoinPool Boruvka runs on.
+     * @param graph - Graph holding both the sparse and dense graphs.
+     * @param vertices - Vertex object array of the graph being run.
+     * @param typeOfGraph - Sparse or Dense.
+     * @param num - Number of the graph.
+     * @param iteration - Index of the pair over all graphs.
+     * @param source - Index of the source vertex.
+     * @param destination - Index of the destination vertex.
+     * @param results - List receiving the results.
+     * @throws Exception - If the algorithms did not find the same maximum bandwidth.
+     */
+    private void runPair(Helper helper, ForkJoinPool pool, Graph graph, Vertex[] vertices, String typeOfGraph, int num, int iteration,
+                         int source, int destination, List<ExperimentResult> results) throws Exception {
+        int totalNumberOfVertices = graph.getTotalNumberOfVertices();
+        double[] runTime = new double[1];
+
+        int maxBwFromDijk = helper.dijktrasWithoutHeap(vertices, source, destination, totalNumberOfVertices,
+                typeOfGraph, runTime);
+        results.add(new ExperimentResult(iteration, num, typeOfGraph, source, destination, DIJKSTRAS_WITHOUT_HEAP,
+                maxBwFromDijk, runTime[0]));
+
+        int maxBwFromDijkWithHeap = helper.dijktrasWithHeap(vertices, source, destination, totalNumberOfVertices,
+                typeOfGraph, runTime);
+        results.add(new ExperimentResult(iteration, num, typeOfGraph, source, destination, DIJKSTRAS_WITH_HEAP,
+                maxBwFromDijkWithHeap, runTime[0]));
+
+        int maxBwFromKrushkals = helper.kruskals(vertices,
+                typeOfGraph.equals("Sparse") ? graph.getSparseGraphEdges() : graph.getDenseGraphEdges(),
+                source, destination, totalNumberOfVertices, typeOfGraph, runTime);
+        results.add(new ExperimentResult(iteration, num, typeOfGraph, source, destination, KRUSKALS,
+                maxBwFromKrushkals, runTime[0]));
+
+        int maxBwFromBoruvka = helper.boruvka(
+                typeOfGraph.equals("Sparse") ? graph.getSparseCompactGraph() : graph.getDenseCompactGraph(),
+                pool, source, destination, typeOfGraph, runTime);
+        results.add(new ExperimentResult(iteration, num, typeOfGraph, source, destination, BORUVKA,
+                maxBwFromBoruvka, runTime[0]));
+
+        //Making sure that all the algorithms produced the same maximum bandwidth value
+        helper.checkBW(maxBwFromDijk, maxBwFromDijkWithHeap, maxBwFromKrushkals, maxBwFromBoruvka);
+    }
+
+    public static void main(String[] args) throws Exception {
+        ExperimentConfig config = ExperimentConfig.parse(args);
+        Metrics.registerMBean();
+        if(config.isScaling()) {
+            new ScalingExperiment(config).run();
+            return;
+        }
+
+        //Keep the standard output for the results when they are not written to a file
+        PrintStream resultsOut = System.out;
+        if(config.getOutput() == null)
+            System.setOut(System.err);
+
+        List<ExperimentResult> results = new ExperimentRunner(config).run();
+        if(config.getOutput() == null) {
+            ResultsFile.write(results, config.getFormat(), resultsOut);
+        } else {
+            ResultsFile.write(results, config.getFormat(), config.getOutput());
+            System.out.println("Results written to " + config.getOutput());
+        }
+        System.out.println("Metrics: " + Metrics.global());
+    }
+}
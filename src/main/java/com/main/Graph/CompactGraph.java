@@ -0,0 +1,249 @@
+package com.main.Graph;
+
+import java.util.Arrays;
+
+/**
+ * Immutable Compressed Sparse Row (CSR) representation of an undirected weighted graph.
+ * The neighbors of vertex v are stored in targets[offsets[v]] .. targets[offsets[v+1]-1] and the weight of
+ * each of those arcs is stored at the same index in weights. Every undirected edge is stored as two arcs
+ * (one in each direction), rows are sorted by target id and contain no duplicates or self loops.
+ */
+public class CompactGraph {
+
+    private final int numberOfVertices;
+
+    private final int[] offsets;
+
+    private final int[] targets;
+
+    private final int[] weights;
+
+    private final int maxWeight;
+
+    /**
+     * Constructor to wrap already normalized CSR arrays. The arrays are not copied.
+     *
+     * @param offsets - Row offsets array of length numberOfVertices + 1.
+     * @param targets - Target vertex of every arc, in [0, numberOfVertices).
+     * @param weights - Weight of every arc, non negative.
+     */
+    public CompactGraph(int[] offsets, int[] targets, int[] weights){
+        if(offsets.length == 0 || targets.length != weights.length || offsets[offsets.length-1] != targets.length)
+            throw new IllegalArgumentException("Invalid CSR arrays");
+
+        this.numberOfVertices = offsets.length - 1;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+
+        int max = 0;
+        for(int arc=0; arc<targets.length; ++arc){
+            checkArc(this.numberOfVertices, targets[arc], weights[arc]);
+            max = Math.max(max, weights[arc]);
+        }
+        this.maxWeight = max;
+    }
+
+    /**
+     * Constructor to wrap trusted CSR arrays whose largest weight is already known, such as arrays loaded from a
+     * GraphFile, without scanning the weights again.
+     *
+     * @param offsets - Row offsets array of length numberOfVertices + 1.
+     * @param targets - Target vertex of every arc.
+     * @param weights - Weight of every arc.
+     * @param maxWeight - Largest value in weights.
+     */
+    CompactGraph(int[] offsets, int[] targets, int[] weights, int maxWeight){
+        if(offsets.length == 0 || targets.length != weights.length || offsets[offsets.length-1] != targets.length)
+            throw new IllegalArgumentException("Invalid CSR arrays");
+
+        this.numberOfVertices = offsets.length - 1;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * This method exports the given Vertex based graph into CSR form.
+     *
+     * @param graph - Vertex object array which represents the entire graph.
+     * @return - CompactGraph holding the same vertices and edges.
+     */
+    public static CompactGraph fromVertices(Vertex[] graph){
+        int numberOfVertices = graph.length;
+        int[] offsets = new int[numberOfVertices + 1];
+        for(int i=0; i<numberOfVertices; ++i)
+            offsets[i+1] = offsets[i] + graph[i].getNeighbors().size();
+
+        int[] targets = new int[offsets[numberOfVertices]];
+        int[] weights = new int[offsets[numberOfVertices]];
+        for(int i=0; i<numberOfVertices; ++i){
+            int arc = offsets[i];
+            for(Edge edge : graph[i].getNeighbors()){
+                targets[arc] = edge.getDestination().getId();
+                weights[arc] = edge.getWeight();
+                arc++;
+            }
+        }
+
+        return normalize(offsets, targets, weights);
+    }
+
+    /**
+     * This method builds a CSR graph from a list of undirected edges. Every edge is stored in both directions,
+     * self loops are dropped and duplicate edges are merged keeping the largest weight.
+     *
+     * @param numberOfVertices - Total number of vertices in the graph.
+     * @param sources - Source vertex of every edge.
+     * @param destinations - Destination vertex of every edge.
+     * @param weights - Weight of every edge.
+     * @param numberOfEdges - Number of valid entries in the above arrays.
+     * @return - The newly created CompactGraph.
+     * @throws IllegalArgumentException - If a vertex is out of range or a weight is negative.
+     */
+    public static CompactGraph fromEdges(int numberOfVertices, int[] sources, int[] destinations,
+                                         int[] weights, int numberOfEdges){
+        int[] offsets = new int[numberOfVertices + 1];
+        for(int i=0; i<numberOfEdges; ++i){
+            checkArc(numberOfVertices, sources[i], weights[i]);
+            checkArc(numberOfVertices, destinations[i], weights[i]);
+            if(sources[i] == destinations[i])
+                continue;
+            offsets[sources[i] + 1]++;
+            offsets[destinations[i] + 1]++;
+        }
+        for(int i=0; i<numberOfVertices; ++i)
+            offsets[i+1] += offsets[i];
+
+        int[] next = Arrays.copyOf(offsets, numberOfVertices);
+        int[] arcTargets = new int[offsets[numberOfVertices]];
+        int[] arcWeights = new int[offsets[numberOfVertices]];
+        for(int i=0; i<numberOfEdges; ++i){
+            int u = sources[i];
+            int v = destinations[i];
+            if(u == v)
+                continue;
+            arcTargets[next[u]] = v; arcWeights[next[u]++] = weights[i];
+            arcTargets[next[v]] = u; arcWeights[next[v]++] = weights[i];
+        }
+
+        return normalize(offsets, arcTargets, arcWeights);
+    }
+
+    /**
+     * This method sorts every row by target id, merges duplicate arcs keeping the largest weight, drops self
+     * loops and compacts the arrays.
+     *
+     * @param offsets - Row offsets array.
+     * @param targets - Target vertex of every arc.
+     * @param weights - Weight of every arc.
+     * @return - CompactGraph over the normalized arrays.
+     */
+    private static CompactGraph normalize(int[] offsets, int[] targets, int[] weights){
+        int numberOfVertices = offsets.length - 1;
+        int maxDegree = 0;
+        for(int v=0; v<numberOfVertices; ++v)
+            maxDegree = Math.max(maxDegree, offsets[v+1] - offsets[v]);
+
+        long[] row = new long[maxDegree];
+        int write = 0;
+        int rowStart = 0;
+        for(int v=0; v<numberOfVertices; ++v){
+            int rowEnd = offsets[v+1];
+            int degree = rowEnd - rowStart;
+            for(int i=0; i<degree; ++i)
+                row[i] = ((long) targets[rowStart + i] << 32) | (weights[rowStart + i] & 0xFFFFFFFFL);
+            Arrays.sort(row, 0, degree);
+
+            offsets[v] = write;
+            for(int i=0; i<degree; ++i){
+                int target = (int) (row[i] >>> 32);
+                int weight = (int) row[i];
+                if(target == v)
+                    continue;
+                //Rows are sorted by (target, weight) so the last duplicate holds the largest weight
+                if(write > offsets[v] && targets[write-1] == target) {
+                    weights[write-1] = weight;
+                    continue;
+                }
+                targets[write] = target;
+                weights[write] = weight;
+                write++;
+            }
+            rowStart = rowEnd;
+        }
+        offsets[numberOfVertices] = write;
+
+        if(write != targets.length) {
+            targets = Arrays.copyOf(targets, write);
+            weights = Arrays.copyOf(weights, write);
+        }
+        return new CompactGraph(offsets, targets, weights);
+    }
+
+    /**
+     * Method to reject an arc whose end is not a vertex of the graph or whose weight is negative. Negative
+     * weights would break the unsigned packing in normalize and every search, which treats 0 as unreached.
+     *
+     * @param numberOfVertices - Total number of vertices in the graph.
+     * @param vertex - End of the arc.
+     * @param weight - Weight of the arc.
+     */
+    private static void checkArc(int numberOfVertices, int vertex, int weight){
+        if(vertex < 0 || vertex >= numberOfVertices)
+            throw new IllegalArgumentException("Vertex " + vertex + " out of range [0, " + numberOfVertices + ")");
+        if(weight < 0)
+            throw new IllegalArgumentException("Negative weight " + weight);
+    }
+
+    /**
+     * Method to find the arc index of the edge (u, v).
+     *
+     * @param u - Source vertex.
+     * @param v - Target vertex.
+     * @return - Index of the arc in targets/weights or a negative value if the edge does not exist.
+     */
+    public int findArc(int u, int v){
+        int index = Arrays.binarySearch(this.targets, this.offsets[u], this.offsets[u+1], v);
+        return (index >= 0) ? index : -1;
+    }
+
+    public int getNumberOfVertices() {
+        return this.numberOfVertices;
+    }
+
+    /**
+     * @return - Number of directed arcs, which is twice the number of undirected edges.
+     */
+    public int getNumberOfArcs() {
+        return this.targets.length;
+    }
+
+    public int getNumberOfEdges() {
+        return this.targets.length / 2;
+    }
+
+    public int getDegree(int v) {
+        return this.offsets[v+1] - this.offsets[v];
+    }
+
+    public int getMaxWeight() {
+        return this.maxWeight;
+    }
+
+    /**
+     * The returned arrays are shared with the graph for allocation free traversal and must not be modified.
+     */
+    public int[] getOffsets() {
+        return this.offsets;
+    }
+
+    public int[] getTargets() {
+        return this.targets;
+    }
+
+    public int[] getWeights() {
+        return this.weights;
+    }
+}
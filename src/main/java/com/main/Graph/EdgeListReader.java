@@ -0,0 +1,300 @@
+package com.main.Graph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Streaming importer for plain text edge lists. The file is read in fixed size chunks, every chunk is split at
+ * line boundaries and parsed in parallel straight into primitive arrays, and the CompactGraph is built from
+ * those arrays, so memory stays bounded by one chunk plus the edges themselves and no Edge objects are created.
+ *
+ * Supported lines:
+ *   u v [weight]      edge between 0-based vertices, weight defaults to 1
+ *   a u v [weight]    DIMACS arc between 1-based vertices
+ *   e u v [weight]    DIMACS edge between 1-based vertices
+ *   p type n m        DIMACS problem line, gives the number of vertices
+ *   c, # or %         comment
+ * Arcs listed in both directions are merged, as are duplicate edges, keeping the largest weight.
+ */
+public class EdgeListReader {
+
+    private static final int DEFAULT_CHUNK_SIZE = 16 << 20;
+
+    //Smallest part of a chunk handed to one thread
+    private static final int MIN_PART_SIZE = 1 << 16;
+
+    private final int chunkSize;
+
+    private final int maxWeight;
+
+    public EdgeListReader(){
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructor to choose the read buffer size. Lines longer than the buffer make it grow.
+     *
+     * @param chunkSize - Number of bytes read and parsed at a time.
+     */
+    public EdgeListReader(int chunkSize){
+        this(chunkSize, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructor to choose the read buffer size and the largest accepted weight. Any weight fits the heap
+     * based queues, and a bucket queue falls back to a 4-ary heap above BucketQueue.MAX_KEY, so the bound is
+     * only needed when the input must stay within a known key range.
+     *
+     * @param chunkSize - Number of bytes read and parsed at a time.
+     * @param maxWeight - Largest weight accepted, lines with a heavier edge are rejected.
+     */
+    public EdgeListReader(int chunkSize, int maxWeight){
+        if(chunkSize <= 0)
+            throw new IllegalArgumentException("chunkSize must be positive");
+        if(maxWeight < 0)
+            throw new IllegalArgumentException("maxWeight must not be negative");
+        this.chunkSize = chunkSize;
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * This method reads an edge list file into a CompactGraph. Without a DIMACS problem line the number of
+     * vertices is the largest vertex id plus one.
+     *
+     * @param path - Edge list file.
+     * @return - The imported CompactGraph.
+     * @throws IOException - If the file can not be read.
+     * @throws IllegalArgumentException - If a line can not be parsed, has extra tokens or a weight above maxWeight.
+     */
+    public CompactGraph read(Path path) throws IOException {
+        EdgeBuffer edges = new EdgeBuffer(1024);
+        byte[] buffer = new byte[this.chunkSize];
+        int length = 0;
+        long chunkStart = 0;
+
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            boolean endOfFile = false;
+            while(!endOfFile){
+                int read = channel.read(ByteBuffer.wrap(buffer, length, buffer.length - length));
+                if(read < 0)
+                    endOfFile = true;
+                else
+                    length += read;
+
+                //Parse up to the last complete line, the rest is carried over to the next chunk
+                int end = endOfFile ? length : lastLineEnd(buffer, length);
+                if(end < 0) {
+                    if(length == buffer.length)
+                        buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                    continue;
+                }
+
+                parseChunk(buffer, end, chunkStart, edges);
+                System.arraycopy(buffer, end, buffer, 0, length - end);
+                chunkStart += end;
+                length -= end;
+            }
+        }
+
+        int numberOfVertices = (edges.numberOfVertices >= 0) ? edges.numberOfVertices : edges.maxVertex + 1;
+        if(edges.maxVertex >= numberOfVertices)
+            throw new IllegalArgumentException("Vertex " + edges.maxVertex + " is out of range for " + numberOfVertices + " vertices");
+        return CompactGraph.fromEdges(numberOfVertices, edges.sources, edges.destinations, edges.weights, edges.size);
+    }
+
+    /**
+     * Method to split a chunk into parts at line boundaries and parse the parts in parallel. The parts are
+     * appended in file order, so the result does not depend on the number of threads.
+     *
+     * @param buffer - Bytes of the chunk.
+     * @param end - Number of valid bytes, the chunk ends with a complete line.
+     * @param chunkStart - Offset of the chunk in the file, used in error messages.
+     * @param edges - Buffer receiving the edges.
+     */
+    private void parseChunk(byte[] buffer, int end, long chunkStart, EdgeBuffer edges){
+        int numberOfParts = Math.max(1, Math.min(4 * ForkJoinPool.getCommonPoolParallelism(), end / MIN_PART_SIZE));
+        int[] bounds = new int[numberOfParts + 1];
+        bounds[numberOfParts] = end;
+        for(int part=1; part<numberOfParts; ++part){
+            int bound = Math.max(bounds[part-1], (int) ((long) end * part / numberOfParts));
+            while(bound < end && bound > 0 && buffer[bound-1] != '\n')
+                bound++;
+            bounds[part] = bound;
+        }
+
+        EdgeBuffer[] parts = new EdgeBuffer[numberOfParts];
+        IntStream.range(0, numberOfParts).parallel().forEach(part ->
+                parts[part] = parse(buffer, bounds[part], bounds[part+1], chunkStart, this.maxWeight));
+        for(EdgeBuffer part : parts)
+            edges.addAll(part);
+    }
+
+    /**
+     * Method to parse the lines between from and to.
+     *
+     * @param buffer - Bytes of the chunk.
+     * @param from - First byte of the first line.
+     * @param to - Byte following the last line.
+     * @param chunkStart - Offset of the chunk in the file, used in error messages.
+     * @param maxWeight - Largest weight accepted.
+     * @return - Edges of the lines.
+     */
+    private static EdgeBuffer parse(byte[] buffer, int from, int to, long chunkStart, int maxWeight){
+        EdgeBuffer edges = new EdgeBuffer(Math.max(16, (to - from) / 12));
+        int[] position = {from};
+        while(position[0] < to){
+            int lineStart = position[0];
+            skipBlanks(buffer, position, to);
+            if(position[0] >= to)
+                break;
+
+            byte first = buffer[position[0]];
+            if(first == '\n' || first == '\r' || first == 'c' || first == '#' || first == '%') {
+                skipLine(buffer, position, to);
+                continue;
+            }
+
+            try {
+                if(first == 'p') {
+                    position[0]++;
+                    skipToken(buffer, position, to);
+                    edges.numberOfVertices = nextInt(buffer, position, to);
+                } else {
+                    int base = 0;
+                    if(first == 'a' || first == 'e') {
+                        position[0]++;
+                        base = 1;
+                    }
+                    int u = nextInt(buffer, position, to) - base;
+                    int v = nextInt(buffer, position, to) - base;
+                    skipBlanks(buffer, position, to);
+                    int weight = isLineEnd(buffer, position[0], to) ? 1 : nextInt(buffer, position, to);
+                    skipBlanks(buffer, position, to);
+                    if(!isLineEnd(buffer, position[0], to))
+                        throw new IllegalArgumentException("unexpected token after the weight");
+                    if(u < 0 || v < 0 || weight < 0)
+                        throw new IllegalArgumentException("negative value");
+                    if(weight > maxWeight)
+                        throw new IllegalArgumentException("weight above " + maxWeight);
+                    edges.add(u, v, weight);
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid edge list line at byte " + (chunkStart + lineStart)
+                        + ": " + new String(buffer, lineStart, lineEnd(buffer, lineStart, to) - lineStart).trim(), e);
+            }
+            skipLine(buffer, position, to);
+        }
+        return edges;
+    }
+
+    private static int lastLineEnd(byte[] buffer, int length){
+        for(int i=length-1; i>=0; --i)
+            if(buffer[i] == '\n')
+                return i + 1;
+        return -1;
+    }
+
+    private static int lineEnd(byte[] buffer, int from, int to){
+        while(from < to && buffer[from] != '\n')
+            from++;
+        return from;
+    }
+
+    private static boolean isLineEnd(byte[] buffer, int position, int to){
+        return position >= to || buffer[position] == '\n' || buffer[position] == '\r';
+    }
+
+    private static void skipLine(byte[] buffer, int[] position, int to){
+        position[0] = Math.min(to, lineEnd(buffer, position[0], to) + 1);
+    }
+
+    private static void skipBlanks(byte[] buffer, int[] position, int to){
+        while(position[0] < to && (buffer[position[0]] == ' ' || buffer[position[0]] == '\t' || buffer[position[0]] == ','))
+            position[0]++;
+    }
+
+    private static void skipToken(byte[] buffer, int[] position, int to){
+        skipBlanks(buffer, position, to);
+        while(position[0] < to && buffer[position[0]] > ' ')
+            position[0]++;
+    }
+
+    /**
+     * Method to parse the next decimal int of the line.
+     *
+     * @param buffer - Bytes of the chunk.
+     * @param position - Current position, moved after the int.
+     * @param to - End of the part.
+     * @return - Parsed value.
+     */
+    private static int nextInt(byte[] buffer, int[] position, int to){
+        skipBlanks(buffer, position, to);
+        int i = position[0];
+        boolean negative = i < to && buffer[i] == '-';
+        if(negative)
+            i++;
+        if(i >= to || buffer[i] < '0' || buffer[i] > '9')
+            throw new IllegalArgumentException("number expected");
+
+        long value = 0;
+        while(i < to && buffer[i] >= '0' && buffer[i] <= '9'){
+            value = value * 10 + (buffer[i++] - '0');
+            if(value > Integer.MAX_VALUE)
+                throw new IllegalArgumentException("number too large");
+        }
+        position[0] = i;
+        return (int) (negative ? -value : value);
+    }
+
+    /**
+     * Growable primitive arrays of edges, with the vertex count found in a problem line and the largest id.
+     */
+    private static class EdgeBuffer {
+        int[] sources;
+        int[] destinations;
+        int[] weights;
+        int size;
+        int numberOfVertices = -1;
+        int maxVertex = -1;
+
+        EdgeBuffer(int capacity){
+            this.sources = new int[capacity];
+            this.destinations = new int[capacity];
+            this.weights = new int[capacity];
+        }
+
+        void add(int u, int v, int weight){
+            ensureCapacity(this.size + 1);
+            this.sources[this.size] = u;
+            this.destinations[this.size] = v;
+            this.weights[this.size++] = weight;
+            this.maxVertex = Math.max(this.maxVertex, Math.max(u, v));
+        }
+
+        void addAll(EdgeBuffer other){
+            ensureCapacity(this.size + other.size);
+            System.arraycopy(other.sources, 0, this.sources, this.size, other.size);
+            System.arraycopy(other.destinations, 0, this.destinations, this.size, other.size);
+            System.arraycopy(other.weights, 0, this.weights, this.size, other.size);
+            this.size += other.size;
+            this.maxVertex = Math.max(this.maxVertex, other.maxVertex);
+            if(other.numberOfVertices >= 0)
+                this.numberOfVertices = other.numberOfVertices;
+        }
+
+        private void ensureCapacity(int capacity){
+            if(capacity <= this.sources.length)
+                return;
+            int newCapacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(capacity, this.sources.length * 3L / 2));
+            this.sources = Arrays.copyOf(this.sources, newCapacity);
+            this.destinations = Arrays.copyOf(this.destinations, newCapacity);
+            this.weights = Arrays.copyOf(this.weights, newCapacity);
+        }
+    }
+}
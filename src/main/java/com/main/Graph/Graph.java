@@ -1,18 +1,31 @@
 package com.main.Graph;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.LinkedList;
 import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
 
 public class Graph {
-    private final Random random = new Random();
 
-    private final int TOTAL_NUMBER_OF_VERTICES = 5000;
+    public static final int DEFAULT_NUMBER_OF_VERTICES = 5000;
 
-    private final int SPARSE_GRAPH_EDGES = 6;
+    public static final int DEFAULT_SPARSE_DEGREE = 6;
 
-    private final int DENSE_GRAPH_EDGES = 945;
+    public static final int DEFAULT_DENSE_MIN_DEGREE = 945;
 
-    private final int MAX_WEIGHT = 10000;
+    public static final int DEFAULT_DENSE_MAX_DEGREE = 1094;
+
+    private final int TOTAL_NUMBER_OF_VERTICES;
+
+    private final int SPARSE_GRAPH_EDGES;
+
+    private final int DENSE_GRAPH_EDGES;
+
+    private final int DENSE_GRAPH_EDGE_RANGE;
+
+    public static final int MAX_WEIGHT = 10000;
 
     private Vertex[] sparseGraph;
 
@@ -22,30 +35,74 @@ public class Graph {
 
     private LinkedList<Edge> denseGraphEdges = new LinkedList<>();
 
+    private CompactGraph sparseCompactGraph;
+
+    private CompactGraph denseCompactGraph;
+
     /**
      * Construct to start graph generation.
      */
     public Graph(){
-        this.sparseGraph = makeSparseGraph();
-        this.denseGraph = makeDenseGraph();
+        this(new Random().nextLong());
+    }
+
+    /**
+     * Construct to start reproducible graph generation. The sparse and dense graphs are generated in parallel,
+     * each with its own random generator split from the seed, so the same seed always gives the same graphs.
+     *
+     * @param seed - Seed of the random generators.
+     */
+    public Graph(long seed){
+        this(seed, DEFAULT_NUMBER_OF_VERTICES, DEFAULT_SPARSE_DEGREE, DEFAULT_DENSE_MIN_DEGREE, DEFAULT_DENSE_MAX_DEGREE);
+    }
+
+    /**
+     * Construct to start reproducible graph generation with the given size. Every vertex of the sparse graph gets
+     * sparseDegree edges and every vertex of the dense graph a degree drawn between denseMinDegree and denseMaxDegree.
+     *
+     * @param seed - Seed of the random generators.
+     * @param numberOfVertices - Total number of vertices of both graphs.
+     * @param sparseDegree - Degree of every vertex in the sparse graph.
+     * @param denseMinDegree - Smallest degree of a vertex in the dense graph.
+     * @param denseMaxDegree - Largest degree of a vertex in the dense graph.
+     */
+    public Graph(long seed, int numberOfVertices, int sparseDegree, int denseMinDegree, int denseMaxDegree){
+        if(numberOfVertices < 2 || sparseDegree < 2 || denseMinDegree < 2 || denseMaxDegree < denseMinDegree
+                || Math.max(sparseDegree, denseMaxDegree) >= numberOfVertices)
+            throw new IllegalArgumentException("Degrees must be between 2 and numberOfVertices - 1");
+
+        this.TOTAL_NUMBER_OF_VERTICES = numberOfVertices;
+        this.SPARSE_GRAPH_EDGES = sparseDegree;
+        this.DENSE_GRAPH_EDGES = denseMinDegree;
+        this.DENSE_GRAPH_EDGE_RANGE = denseMaxDegree - denseMinDegree + 1;
+
+        SplittableRandom seeds = new SplittableRandom(seed);
+        Random sparseRandom = new Random(seeds.nextLong());
+        Random denseRandom = new Random(seeds.nextLong());
+
+        System.out.print("Sparse and dense graph generation in progress...... ");
+        CompletableFuture<Vertex[]> sparse = CompletableFuture.supplyAsync(() -> makeSparseGraph(sparseRandom));
+        this.denseGraph = makeDenseGraph(denseRandom);
+        this.sparseGraph = sparse.join();
+        System.out.println("Done!!");
     }
 
     /**
      * This method starts sparse graph generation by initializing all vertices, calling makeCycle method and
      * lastly calling makeRandomConnections method.
      *
+     * @param random - Random generator used for this graph only.
      * @return - Vertex object array which represents the entire graph.
      */
-    private Vertex[] makeSparseGraph(){
-        System.out.print("Sparse graph generation in progress...... ");
+    private Vertex[] makeSparseGraph(Random random){
         Vertex[] sparseGraph = new Vertex[TOTAL_NUMBER_OF_VERTICES];
         for(int i=0; i<this.TOTAL_NUMBER_OF_VERTICES; ++i){
             Vertex v = new Vertex(i);
             sparseGraph[i] = v;
         }
-        makeCycle(sparseGraph, this.sparseGraphEdges);
-        makeRandomConnections(sparseGraph, this.sparseGraphEdges, true, 500);
-        System.out.println("Done!!");
+        LongHashSet adjacency = new LongHashSet(TOTAL_NUMBER_OF_VERTICES * (SPARSE_GRAPH_EDGES + 1));
+        makeCycle(sparseGraph, this.sparseGraphEdges, adjacency, random);
+        makeRandomConnections(sparseGraph, this.sparseGraphEdges, adjacency, random, true, 500);
         return sparseGraph;
     }
 
@@ -53,19 +110,19 @@ public class Graph {
      * This method starts dense graph generation by initializing all vertices, calling makeCycle method and
      * lastly calling makeRandomConnections method.
      *
+     * @param random - Random generator used for this graph only.
      * @return - Vertex object array which represents the entire graph.
      */
-    private Vertex[] makeDenseGraph(){
-        System.out.print("Dense graph generation in progress...... ");
+    private Vertex[] makeDenseGraph(Random random){
         Vertex[] denseGraph = new Vertex[TOTAL_NUMBER_OF_VERTICES];
         for(int i=0; i<this.TOTAL_NUMBER_OF_VERTICES; ++i) {
             Vertex v = new Vertex(i);
             denseGraph[i] = v;
         }
 
-        makeCycle(denseGraph, this.denseGraphEdges);
-        makeRandomConnections(denseGraph, this.denseGraphEdges, false, 10);
-        System.out.println("Done!!");
+        LongHashSet adjacency = new LongHashSet(TOTAL_NUMBER_OF_VERTICES * (DENSE_GRAPH_EDGES + DENSE_GRAPH_EDGE_RANGE));
+        makeCycle(denseGraph, this.denseGraphEdges, adjacency, random);
+        makeRandomConnections(denseGraph, this.denseGraphEdges, adjacency, random, false, 10);
 
         return denseGraph;
     }
@@ -75,15 +132,17 @@ public class Graph {
      *
      * @param graph - Vertex object array which represents the entire graph.
      * @param edges - LinkedList of all the edges object of the above-mentioned graph.
+     * @param adjacency - Set of the (source, destination) pairs already connected in the graph.
+     * @param random - Random generator used for this graph only.
      */
-    private void makeCycle(Vertex[] graph, LinkedList<Edge> edges){
+    private void makeCycle(Vertex[] graph, LinkedList<Edge> edges, LongHashSet adjacency, Random random){
         for(int i=0; i<this.TOTAL_NUMBER_OF_VERTICES; ++i) {
             int nextVertexIndex = (i==this.TOTAL_NUMBER_OF_VERTICES-1) ? 0 : i+1;
             Vertex currVertex = graph[i];
             Vertex nextVertex = graph[nextVertexIndex];
             int weight = random.nextInt(MAX_WEIGHT) + 1;
-            connectVertices(currVertex, nextVertex, weight, edges, false);
-            connectVertices(nextVertex, currVertex, weight, edges, true);
+            connectVertices(currVertex, nextVertex, weight, edges, adjacency, false);
+            connectVertices(nextVertex, currVertex, weight, edges, adjacency, true);
         }
     }
 
@@ -92,13 +151,16 @@ public class Graph {
      *
      * @param graph - Vertex object array which represents the entire graph.
      * @param edges - LinkedList of all the edges object of the above-mentioned graph.
+     * @param adjacency - Set of the (source, destination) pairs already connected in the graph.
+     * @param random - Random generator used for this graph only.
      * @param sparseGraph - Boolean flag to determine whether we are generating connections for sparse or dense graph.
      * @param retryRate - Retry rate value.
      */
-    private void makeRandomConnections(Vertex[] graph, LinkedList<Edge> edges, boolean sparseGraph, int retryRate){
+    private void makeRandomConnections(Vertex[] graph, LinkedList<Edge> edges, LongHashSet adjacency, Random random,
+                                       boolean sparseGraph, int retryRate){
         for(int i=0; i<this.TOTAL_NUMBER_OF_VERTICES; ++i) {
             int numberOfConnectionsPerVertex =
-                    (sparseGraph) ? this.SPARSE_GRAPH_EDGES : random.nextInt(150) + this.DENSE_GRAPH_EDGES;
+                    (sparseGraph) ? this.SPARSE_GRAPH_EDGES : random.nextInt(this.DENSE_GRAPH_EDGE_RANGE) + this.DENSE_GRAPH_EDGES;
             Vertex currVertex = graph[i];
             while(currVertex.getNeighbors().size() < numberOfConnectionsPerVertex){
                 int retry = 0;
@@ -113,8 +175,8 @@ public class Graph {
                     break;
 
                 int weight = random.nextInt(MAX_WEIGHT) + 1;
-                connectVertices(currVertex, randomVertex, weight, edges, false);
-                connectVertices(randomVertex, currVertex, weight, edges, true);
+                connectVertices(currVertex, randomVertex, weight, edges, adjacency, false);
+                connectVertices(randomVertex, currVertex, weight, edges, adjacency, true);
 
             }
         }
@@ -127,13 +189,14 @@ public class Graph {
      * @param destination - Destination Vertex.
      * @param weight - Weight of the edge.
      * @param edges - LinkedList of all the edges object of the above-mentioned graph.
+     * @param adjacency - Set of the (source, destination) pairs already connected in the graph.
      * @param backEdge - Boolean flag to determine whether the edge being added is a backEdge orn not.
      */
-    private void connectVertices(Vertex source, Vertex destination,
-                                 int weight, LinkedList<Edge> edges, boolean backEdge){
-        for(Edge e : source.getNeighbors())
-            if(e.destination == destination)
-                return;
+    private void connectVertices(Vertex source, Vertex destination, int weight, LinkedList<Edge> edges,
+                                 LongHashSet adjacency, boolean backEdge){
+        //O(1) duplicate check instead of scanning the whole neighbor list
+        if(!adjacency.add(((long) source.getId() << 32) | destination.getId()))
+            return;
 
         Edge edge = new Edge(source, destination, weight);
         source.getNeighbors().add(edge);
@@ -161,4 +224,38 @@ public class Graph {
     public LinkedList<Edge> getDenseGraphEdges() {
         return this.denseGraphEdges;
     }
+
+    /**
+     * Method to export the sparse graph in CSR form. The export is built once and reused.
+     *
+     * @return - CompactGraph holding the same vertices and edges as the sparse graph.
+     */
+    public CompactGraph getSparseCompactGraph() {
+        if(this.sparseCompactGraph == null)
+            this.sparseCompactGraph = CompactGraph.fromVertices(this.sparseGraph);
+        return this.sparseCompactGraph;
+    }
+
+    /**
+     * Method to export the dense graph in CSR form. The export is built once and reused.
+     *
+     * @return - CompactGraph holding the same vertices and edges as the dense graph.
+     */
+    public CompactGraph getDenseCompactGraph() {
+        if(this.denseCompactGraph == null)
+            this.denseCompactGraph = CompactGraph.fromVertices(this.denseGraph);
+        return this.denseCompactGraph;
+    }
+
+    /**
+     * Method to save both graphs in CSR form so they can be loaded again with GraphFile.read.
+     *
+     * @param sparseFile - File receiving the sparse graph.
+     * @param denseFile - File receiving the dense graph.
+     * @throws IOException - If a file can not be written.
+     */
+    public void save(Path sparseFile, Path denseFile) throws IOException {
+        GraphFile.write(getSparseCompactGraph(), sparseFile);
+        GraphFile.write(getDenseCompactGraph(), denseFile);
+    }
 }
@@ -0,0 +1,239 @@
+package com.main.Graph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Binary file format for CompactGraphs, so the same topology can be queried across restarts without
+ * generating it again. All values are little endian ints:
+ *
+ *   magic "BWG1", version, numberOfVertices, numberOfArcs, maxWeight, reserved,
+ *   offsets[numberOfVertices + 1], targets[numberOfArcs], weights[numberOfArcs]
+ *
+ * Files are written and read through memory-mapped FileChannels. There are two ways to load a file:
+ *
+ *   map, the fast path, maps the arrays read-only and returns a MappedGraph over them without copying or
+ *   scanning them, so opening costs O(1) whatever the size and only the header is checked.
+ *   read, the safe path, copies every array into the heap with one bulk copy per mapped window and checks
+ *   that they form a normalized graph in one extra O(n+m) pass, for files that may be corrupted or when an
+ *   engine needs a CompactGraph.
+ */
+public class GraphFile {
+
+    private static final int MAGIC = 0x31475742; // "BWG1" in little endian
+
+    private static final int VERSION = 1;
+
+    private static final int HEADER_INTS = 6;
+
+    //Windows are mapped one at a time so arrays larger than 2GB are supported
+    private static final int WINDOW_INTS = 1 << 28;
+
+    private GraphFile(){
+    }
+
+    /**
+     * Method to write a graph to a file, replacing the file if it already exists.
+     *
+     * @param graph - Graph to write.
+     * @param path - Destination file.
+     * @throws IOException - If the file can not be written.
+     */
+    public static void write(CompactGraph graph, Path path) throws IOException {
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] weights = graph.getWeights();
+        int[] header = {MAGIC, VERSION, graph.getNumberOfVertices(), graph.getNumberOfArcs(), graph.getMaxWeight(), 0};
+
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            position = writeInts(channel, position, header);
+            position = writeInts(channel, position, offsets);
+            position = writeInts(channel, position, targets);
+            writeInts(channel, position, weights);
+        }
+    }
+
+    /**
+     * Method to map a graph written by write without copying it. The arrays are used in place, so a file
+     * changed while mapped changes the graph, and a corrupted array is only noticed by the searches.
+     *
+     * @param path - Graph file.
+     * @return - MappedGraph over the arrays of the file.
+     * @throws IOException - If the file can not be mapped, its header is invalid or an array is larger than
+     *                       one mapping (2GB), which read still supports.
+     */
+    public static MappedGraph map(Path path) throws IOException {
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            int[] header = readHeader(channel, path);
+            int numberOfVertices = header[2];
+            int numberOfArcs = header[3];
+            if((long) numberOfArcs * Integer.BYTES > Integer.MAX_VALUE)
+                throw new IOException("Graph file too large to map, use GraphFile.read: " + path);
+
+            long position = HEADER_INTS * Integer.BYTES;
+            IntBuffer offsets = mapInts(channel, position, numberOfVertices + 1);
+            position += (long) (numberOfVertices + 1) * Integer.BYTES;
+            IntBuffer targets = mapInts(channel, position, numberOfArcs);
+            position += (long) numberOfArcs * Integer.BYTES;
+            IntBuffer weights = mapInts(channel, position, numberOfArcs);
+
+            if(offsets.get(0) != 0 || offsets.get(numberOfVertices) != numberOfArcs || header[4] < 0)
+                throw new IOException("Corrupted offsets in graph file: " + path);
+            return new MappedGraph(offsets, targets, weights, header[4]);
+        }
+    }
+
+    /**
+     * Method to load a graph written by write into the heap, checking every array.
+     *
+     * @param path - Graph file.
+     * @return - The loaded CompactGraph.
+     * @throws IOException - If the file can not be read or is not a valid graph file.
+     */
+    public static CompactGraph read(Path path) throws IOException {
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            int[] header = readHeader(channel, path);
+            int numberOfVertices = header[2];
+            int numberOfArcs = header[3];
+            long position = HEADER_INTS * Integer.BYTES;
+
+            int[] offsets = new int[numberOfVertices + 1];
+            int[] targets = new int[numberOfArcs];
+            int[] weights = new int[numberOfArcs];
+            position = readInts(channel, position, offsets);
+            position = readInts(channel, position, targets);
+            readInts(channel, position, weights);
+
+            checkArrays(path, offsets, targets, weights, header[4]);
+            return new CompactGraph(offsets, targets, weights, header[4]);
+        }
+    }
+
+    /**
+     * Method to read and check the header of a graph file against the file size.
+     *
+     * @param channel - Channel opened for reading.
+     * @param path - Graph file, used in the error message.
+     * @return - The header ints.
+     * @throws IOException - If the file is not a graph file of the supported version or its size does not match.
+     */
+    private static int[] readHeader(FileChannel channel, Path path) throws IOException {
+        if(channel.size() < HEADER_INTS * Integer.BYTES)
+            throw new IOException("Not a graph file: " + path);
+
+        int[] header = new int[HEADER_INTS];
+        readInts(channel, 0, header);
+        if(header[0] != MAGIC)
+            throw new IOException("Not a graph file: " + path);
+        if(header[1] != VERSION)
+            throw new IOException("Unsupported graph file version " + header[1] + ": " + path);
+
+        int numberOfVertices = header[2];
+        int numberOfArcs = header[3];
+        long expectedSize = ((long) HEADER_INTS + numberOfVertices + 1 + 2L * numberOfArcs) * Integer.BYTES;
+        if(numberOfVertices < 0 || numberOfArcs < 0 || channel.size() != expectedSize)
+            throw new IOException("Truncated or corrupted graph file: " + path);
+        return header;
+    }
+
+    /**
+     * Method to check that the loaded arrays form a normalized CompactGraph, because the searches index
+     * straight into them and the header maxWeight sizes their queues.
+     *
+     * @param path - Graph file, used in the error message.
+     * @param offsets - Loaded row offsets.
+     * @param targets - Loaded arc targets.
+     * @param weights - Loaded arc weights.
+     * @param maxWeight - Largest weight according to the header.
+     * @throws IOException - If offsets are not monotone from 0 to numberOfArcs, a row is not sorted or holds an
+     *                       invalid target, a weight is negative or maxWeight is not the largest weight.
+     */
+    private static void checkArrays(Path path, int[] offsets, int[] targets, int[] weights, int maxWeight)
+            throws IOException {
+        int numberOfVertices = offsets.length - 1;
+        if(offsets[0] != 0 || offsets[numberOfVertices] != targets.length)
+            throw new IOException("Corrupted offsets in graph file: " + path);
+
+        int max = 0;
+        for(int v=0; v<numberOfVertices; ++v){
+            if(offsets[v+1] < offsets[v])
+                throw new IOException("Corrupted offsets in graph file: " + path);
+            int previous = -1;
+            for(int arc = offsets[v]; arc < offsets[v+1]; ++arc){
+                int target = targets[arc];
+                if(target <= previous || target >= numberOfVertices || target == v)
+                    throw new IOException("Corrupted targets of vertex " + v + " in graph file: " + path);
+                if(weights[arc] < 0)
+                    throw new IOException("Negative weight in graph file: " + path);
+                max = Math.max(max, weights[arc]);
+                previous = target;
+            }
+        }
+        if(max != maxWeight)
+            throw new IOException("Header maxWeight " + maxWeight + " does not match the weights (" + max + "): " + path);
+    }
+
+    /**
+     * Method to copy ints from an array into the file, one mapped window at a time.
+     *
+     * @param channel - Channel opened for reading and writing.
+     * @param position - Byte position of the first int.
+     * @param values - Ints to write.
+     * @return - Byte position following the last int.
+     * @throws IOException - If the file can not be mapped.
+     */
+    private static long writeInts(FileChannel channel, long position, int[] values) throws IOException {
+        for(int from = 0; from < values.length; from += WINDOW_INTS){
+            int count = Math.min(WINDOW_INTS, values.length - from);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_WRITE, position, (long) count * Integer.BYTES);
+            asInts(window).put(values, from, count);
+            window.force();
+            position += (long) count * Integer.BYTES;
+        }
+        return position;
+    }
+
+    /**
+     * Method to copy ints from the file into an array, one mapped window at a time.
+     *
+     * @param channel - Channel opened for reading.
+     * @param position - Byte position of the first int.
+     * @param values - Array receiving the ints, filled completely.
+     * @return - Byte position following the last int.
+     * @throws IOException - If the file can not be mapped.
+     */
+    private static long readInts(FileChannel channel, long position, int[] values) throws IOException {
+        for(int from = 0; from < values.length; from += WINDOW_INTS){
+            int count = Math.min(WINDOW_INTS, values.length - from);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, (long) count * Integer.BYTES);
+            asInts(window).get(values, from, count);
+            position += (long) count * Integer.BYTES;
+        }
+        return position;
+    }
+
+    /**
+     * Method to map ints of the file read-only. The mapping stays valid after the channel is closed.
+     *
+     * @param channel - Channel opened for reading.
+     * @param position - Byte position of the first int.
+     * @param count - Number of ints, at most one mapping.
+     * @return - Read-only buffer over the ints.
+     * @throws IOException - If the file can not be mapped.
+     */
+    private static IntBuffer mapInts(FileChannel channel, long position, int count) throws IOException {
+        return asInts(channel.map(FileChannel.MapMode.READ_ONLY, position, (long) count * Integer.BYTES));
+    }
+
+    private static IntBuffer asInts(ByteBuffer buffer){
+        return buffer.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+}
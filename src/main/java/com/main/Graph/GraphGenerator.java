@@ -0,0 +1,154 @@
+package com.main.Graph;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Parallel and reproducible random graph generator producing CompactGraphs directly. Like Graph, every
+ * vertex is first connected to the next one to make a cycle, then random edges are added until the
+ * vertices reach their target degree.
+ * Every vertex draws its target degree, partners and weights from its own random generator derived from the
+ * seed and the vertex id, so the output does not depend on how the vertices are split among the threads.
+ */
+public class GraphGenerator {
+
+    private static final int CHUNK_SIZE = 4096;
+
+    private final long seed;
+
+    private final int numberOfVertices;
+
+    private final int minDegree;
+
+    private final int maxDegree;
+
+    private final int maxWeight;
+
+    /**
+     * Constructor for graphs where every vertex has about the same degree.
+     *
+     * @param seed - Seed of the random generators.
+     * @param numberOfVertices - Total number of vertices in the graph.
+     * @param degree - Target degree of every vertex.
+     */
+    public GraphGenerator(long seed, int numberOfVertices, int degree){
+        this(seed, numberOfVertices, degree, degree, Graph.MAX_WEIGHT);
+    }
+
+    /**
+     * Constructor for graphs where the target degree of every vertex is drawn uniformly from a range.
+     *
+     * @param seed - Seed of the random generators.
+     * @param numberOfVertices - Total number of vertices in the graph.
+     * @param minDegree - Smallest target degree.
+     * @param maxDegree - Largest target degree.
+     * @param maxWeight - Edge weights are drawn uniformly from 1 to maxWeight.
+     */
+    public GraphGenerator(long seed, int numberOfVertices, int minDegree, int maxDegree, int maxWeight){
+        if(numberOfVertices < 2 || minDegree < 2 || maxDegree < minDegree || maxDegree >= numberOfVertices)
+            throw new IllegalArgumentException("Degrees must be between 2 and numberOfVertices - 1");
+
+        this.seed = seed;
+        this.numberOfVertices = numberOfVertices;
+        this.minDegree = minDegree;
+        this.maxDegree = maxDegree;
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * This method generates the graph. The cycle gives every vertex 2 edges and every vertex proposes half of
+     * its remaining target degree as random partners, since every proposal adds one to the degree of both ends.
+     * Partners proposed twice by the same vertex are skipped with a bitset, edges proposed from both ends are
+     * merged when the CompactGraph is built.
+     *
+     * @return - The newly generated CompactGraph.
+     */
+    public CompactGraph generate(){
+        int n = this.numberOfVertices;
+        int numberOfChunks = (n + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+        //First pass: number of edges owned by every vertex, the cycle edge plus its proposals
+        int[] firstEdge = new int[n + 1];
+        IntStream.range(0, numberOfChunks).parallel().forEach(chunk -> {
+            for(int u = chunk * CHUNK_SIZE; u < Math.min(n, (chunk + 1) * CHUNK_SIZE); ++u)
+                firstEdge[u+1] = 1 + proposals(random(u));
+        });
+        for(int u=0; u<n; ++u)
+            firstEdge[u+1] += firstEdge[u];
+
+        //Second pass: replay the same random generators to fill the edges
+        int numberOfEdges = firstEdge[n];
+        int[] sources = new int[numberOfEdges];
+        int[] destinations = new int[numberOfEdges];
+        int[] weights = new int[numberOfEdges];
+        IntStream.range(0, numberOfChunks).parallel().forEach(chunk -> {
+            long[] proposed = new long[(n + 63) >>> 6];
+            for(int u = chunk * CHUNK_SIZE; u < Math.min(n, (chunk + 1) * CHUNK_SIZE); ++u){
+                SplittableRandom random = random(u);
+                int count = proposals(random);
+                int edge = firstEdge[u];
+
+                sources[edge] = u;
+                destinations[edge] = (u + 1) % n;
+                weights[edge++] = random.nextInt(this.maxWeight) + 1;
+
+                flip(proposed, u);
+                flip(proposed, (u + 1) % n);
+                flip(proposed, (u + n - 1) % n);
+                for(int i=0; i<count; ++i){
+                    int v = random.nextInt(n);
+                    while((proposed[v >>> 6] & (1L << v)) != 0)
+                        v = random.nextInt(n);
+                    flip(proposed, v);
+                    sources[edge] = u;
+                    destinations[edge] = v;
+                    weights[edge++] = random.nextInt(this.maxWeight) + 1;
+                }
+
+                for(int e = firstEdge[u]; e < edge; ++e)
+                    flip(proposed, destinations[e]);
+                flip(proposed, u);
+                flip(proposed, (u + n - 1) % n);
+            }
+        });
+
+        return CompactGraph.fromEdges(n, sources, destinations, weights, numberOfEdges);
+    }
+
+    /**
+     * Method to toggle bit v of a bitset. Bits are only set while clear and cleared while set, which lets the
+     * generator reset the bitset after every vertex by flipping back exactly the bits it set.
+     *
+     * @param bits - Bitset words.
+     * @param v - Bit index.
+     */
+    private static void flip(long[] bits, int v){
+        bits[v >>> 6] ^= 1L << v;
+    }
+
+    /**
+     * Method to draw the number of random partners proposed by a vertex, the first draw of its generator.
+     *
+     * @param random - Random generator of the vertex.
+     * @return - Number of partners to propose.
+     */
+    private int proposals(SplittableRandom random){
+        int targetDegree = (this.minDegree == this.maxDegree) ? this.minDegree
+                : this.minDegree + random.nextInt(this.maxDegree - this.minDegree + 1);
+        return Math.min((targetDegree - 2 + 1) / 2, this.numberOfVertices - 3);
+    }
+
+    /**
+     * Method to create the random generator of vertex u from the seed.
+     *
+     * @param u - Vertex id.
+     * @return - Random generator only used by vertex u.
+     */
+    private SplittableRandom random(int u){
+        return new SplittableRandom(this.seed ^ (u * 0x9E3779B97F4A7C15L));
+    }
+
+    public int getNumberOfVertices() {
+        return this.numberOfVertices;
+    }
+}
@@ -0,0 +1,71 @@
+package com.main.Graph;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash set of non-negative long keys stored in a primitive array, used to detect duplicate
+ * edges during graph generation without boxing.
+ */
+class LongHashSet {
+    private static final long EMPTY = -1;
+
+    private long[] keys;
+    private int size;
+
+    /**
+     * Constructor to create a set able to hold expectedSize keys before growing.
+     *
+     * @param expectedSize - Expected number of keys.
+     */
+    LongHashSet(int expectedSize){
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        this.keys = new long[capacity];
+        Arrays.fill(this.keys, EMPTY);
+    }
+
+    /**
+     * Method to add a key to the set.
+     *
+     * @param key - Non-negative key.
+     * @return - True if the key was not in the set yet.
+     */
+    boolean add(long key){
+        if(this.size * 2 >= this.keys.length)
+            grow();
+
+        int mask = this.keys.length - 1;
+        int i = hash(key) & mask;
+        while(this.keys[i] != EMPTY){
+            if(this.keys[i] == key)
+                return false;
+            i = (i + 1) & mask;
+        }
+        this.keys[i] = key;
+        this.size++;
+        return true;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    private void grow(){
+        long[] old = this.keys;
+        this.keys = new long[old.length * 2];
+        Arrays.fill(this.keys, EMPTY);
+        int mask = this.keys.length - 1;
+        for(long key : old){
+            if(key == EMPTY)
+                continue;
+            int i = hash(key) & mask;
+            while(this.keys[i] != EMPTY)
+                i = (i + 1) & mask;
+            this.keys[i] = key;
+        }
+    }
+
+    private static int hash(long key){
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
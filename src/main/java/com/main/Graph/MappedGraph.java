@@ -0,0 +1,91 @@
+package com.main.Graph;
+
+import java.nio.IntBuffer;
+
+/**
+ * Read-only CSR graph backed by the memory-mapped arrays of a GraphFile, with the same layout as CompactGraph.
+ * The arrays stay in the page cache instead of the heap, so opening a graph costs no copy and many processes
+ * can share the same file. Only the header is checked when mapping, the arrays are trusted to be written by
+ * GraphFile.write.
+ */
+public class MappedGraph {
+
+    private final int numberOfVertices;
+
+    private final IntBuffer offsets;
+
+    private final IntBuffer targets;
+
+    private final IntBuffer weights;
+
+    private final int maxWeight;
+
+    /**
+     * Constructor to wrap mapped CSR arrays.
+     *
+     * @param offsets - Row offsets of numberOfVertices + 1 ints.
+     * @param targets - Target vertex of every arc.
+     * @param weights - Weight of every arc.
+     * @param maxWeight - Largest value in weights.
+     */
+    MappedGraph(IntBuffer offsets, IntBuffer targets, IntBuffer weights, int maxWeight){
+        this.numberOfVertices = offsets.limit() - 1;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.maxWeight = maxWeight;
+    }
+
+    public int getNumberOfVertices() {
+        return this.numberOfVertices;
+    }
+
+    /**
+     * @return - Number of directed arcs, which is twice the number of undirected edges.
+     */
+    public int getNumberOfArcs() {
+        return this.targets.limit();
+    }
+
+    public int getNumberOfEdges() {
+        return this.targets.limit() / 2;
+    }
+
+    public int getDegree(int v) {
+        return this.offsets.get(v+1) - this.offsets.get(v);
+    }
+
+    public int getMaxWeight() {
+        return this.maxWeight;
+    }
+
+    /**
+     * The neighbors of vertex v are the arcs offset(v) .. offset(v+1)-1.
+     */
+    public int offset(int v) {
+        return this.offsets.get(v);
+    }
+
+    public int target(int arc) {
+        return this.targets.get(arc);
+    }
+
+    public int weight(int arc) {
+        return this.weights.get(arc);
+    }
+
+    /**
+     * Method to copy the mapped arrays into a CompactGraph, for the engines that only run on heap arrays.
+     *
+     * @return - CompactGraph holding the same vertices and arcs.
+     */
+    public CompactGraph toCompactGraph(){
+        int[] offsets = new int[this.offsets.limit()];
+        int[] targets = new int[this.targets.limit()];
+        int[] weights = new int[this.weights.limit()];
+        this.offsets.get(0, offsets);
+        this.targets.get(0, targets);
+        this.weights.get(0, weights);
+        return new CompactGraph(offsets, targets, weights, this.maxWeight);
+    }
+}
@@ -4,9 +4,13 @@ import java.util.LinkedList;
 
 public class Vertex {
 
+    public static final byte UNSEEN = 0;
+    public static final byte FRINGER = 1;
+    public static final byte IN_TREE = 2;
+
     private int rank = 0;
     private int id;
-    private String status;
+    private byte status;
     private Vertex dad = null;
     private LinkedList<Edge> neighbors = new LinkedList<Edge>();
     private int bandwidth;
@@ -18,7 +22,7 @@ public class Vertex {
      */
     public Vertex(int id){
         this.id = id;
-        this.status = "unseen";
+        this.status = UNSEEN;
         this.rank = 0;
         this.neighbors = new LinkedList<>();
         this.dad = null;
@@ -28,14 +32,23 @@ public class Vertex {
         return id;
     }
 
-    public String getStatus() {
+    public byte getStatus() {
         return status;
     }
 
-    public void setStatus(String status) {
+    public void setStatus(byte status) {
         this.status = status;
     }
 
+    /**
+     * Method to clear the search state so that the next search starts from scratch.
+     */
+    public void reset() {
+        this.status = UNSEEN;
+        this.bandwidth = 0;
+        this.dad = null;
+    }
+
     public Vertex getDad() {
         return dad;
     }
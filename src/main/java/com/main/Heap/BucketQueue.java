@@ -0,0 +1,167 @@
+package com.main.Heap;
+
+import java.util.Arrays;
+
+/**
+ * Monotone bucket queue (Dial's algorithm) for bounded integer keys. There is one bucket per possible key
+ * value and every bucket is an intrusive doubly linked list stored in primitive arrays, so insert, adjust and
+ * delete are O(1). In a maximum bandwidth search the largest key in the queue never grows, so finding the
+ * maximum only scans buckets downwards from where the previous maximum was found.
+ */
+public class BucketQueue implements MaxPriorityQueue {
+
+    //Largest supported key, the bucket heads alone take 64 MB at this size
+    public static final int MAX_KEY = 1 << 24;
+
+    private final int[] head;
+    private final int[] next;
+    private final int[] prev;
+    private final int[] key;
+    private int top;
+    private int size;
+    private final QueueCounters counters = new QueueCounters();
+
+    /**
+     * Constructor to initialize the bucket and element arrays.
+     *
+     * @param totalQueueSize - Maximum number of elements, element ids must be smaller than it.
+     * @param maxKey - Largest key which will ever be inserted, at most MAX_KEY.
+     * @throws IllegalArgumentException - If maxKey is negative or larger than MAX_KEY.
+     */
+    public BucketQueue(int totalQueueSize, int maxKey){
+        if(maxKey < 0 || maxKey > MAX_KEY)
+            throw new IllegalArgumentException("maxKey " + maxKey + " outside [0, " + MAX_KEY + "]");
+        this.head = new int[maxKey + 1];
+        this.next = new int[totalQueueSize];
+        this.prev = new int[totalQueueSize];
+        this.key = new int[totalQueueSize];
+        Arrays.fill(this.head, -1);
+        Arrays.fill(this.key, -1);
+        this.top = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Method to insert element into the queue.
+     *
+     * @param id - Id of the element to be inserted.
+     * @param bandWidth - Bandwidth value of the vertex=id, between 0 and maxKey.
+     */
+    @Override
+    public void insert(int id, int bandWidth) {
+        this.counters.inserts++;
+        link(id, bandWidth);
+        this.size++;
+        if(bandWidth > this.top)
+            this.top = bandWidth;
+        this.counters.endOperation();
+    }
+
+    /**
+     * Method to move an element to the bucket of its new key.
+     *
+     * @param id - Id of the element to be adjusted.
+     * @param bandwidth - New bandwidth value of the vertex=id
+     */
+    @Override
+    public void adjust(int id, int bandwidth){
+        this.counters.adjusts++;
+        unlink(id);
+        link(id, bandwidth);
+        if(bandwidth > this.top)
+            this.top = bandwidth;
+        this.counters.endOperation();
+    }
+
+    /**
+     * Method to delete element from the queue.
+     *
+     * @param id - Id of the element to be deleted.
+     */
+    @Override
+    public void delete(int id) {
+        this.counters.deletes++;
+        unlink(id);
+        this.key[id] = -1;
+        this.size--;
+        this.counters.endOperation();
+    }
+
+    /**
+     * Method to return the id of an element with the largest key.
+     *
+     * @return - Id of the max element.
+     */
+    @Override
+    public int maxId() {
+        moveTopToMax();
+        return this.head[this.top];
+    }
+
+    /**
+     * Method to return the largest key in the queue.
+     *
+     * @return - Largest bandwidth value.
+     */
+    @Override
+    public int maxKey() {
+        moveTopToMax();
+        return this.top;
+    }
+
+    /**
+     * Method to remove all the elements from the queue so that it can be reused by the next search.
+     */
+    @Override
+    public void clear() {
+        for(int b=this.top; b>=0 && this.size>0; --b){
+            for(int id=this.head[b]; id!=-1; id=this.next[id]){
+                this.key[id] = -1;
+                this.size--;
+            }
+            this.head[b] = -1;
+        }
+        this.top = 0;
+        this.size = 0;
+    }
+
+    @Override
+    public int getHeapSize() {
+        return this.size;
+    }
+
+    /**
+     * Method to scan down from the current top bucket to the first non empty one.
+     */
+    private void moveTopToMax(){
+        while(this.top > 0 && this.head[this.top] == -1) {
+            this.top--;
+            this.counters.siftSteps++;
+        }
+    }
+
+    private void link(int id, int bandwidth){
+        int first = this.head[bandwidth];
+        this.next[id] = first;
+        this.prev[id] = -1;
+        if(first != -1)
+            this.prev[first] = id;
+        this.head[bandwidth] = id;
+        this.key[id] = bandwidth;
+    }
+
+    private void unlink(int id){
+        int bucket = this.key[id];
+        if(this.prev[id] != -1)
+            this.next[this.prev[id]] = this.next[id];
+        else
+            this.head[bucket] = this.next[id];
+        if(this.next[id] != -1)
+            this.prev[this.next[id]] = this.prev[id];
+    }
+
+    @Override
+    public QueueCounters getCounters() {
+        return this.counters;
+    }
+}
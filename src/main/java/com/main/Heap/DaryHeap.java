@@ -0,0 +1,156 @@
+package com.main.Heap;
+
+import java.util.Arrays;
+
+/**
+ * Indexed d-ary max heap using the same H, D and P arrays as Heap. With d = 4 the tree is half as deep as a
+ * binary heap and the children of a node sit next to each other in memory, which suits searches doing many
+ * more adjust calls than deletes.
+ */
+public class DaryHeap implements MaxPriorityQueue {
+
+    private final int[] H;
+    private final int[] D;
+    private final int[] P;
+    private final int arity;
+    private int HEAP_SIZE;
+    private final QueueCounters counters = new QueueCounters();
+
+    /**
+     * Constructor to initialize H, D and P arrays to totalHeapSize params.
+     *
+     * @param totalHeapSize - Maximum size of heap.
+     * @param arity - Number of children of every node.
+     */
+    public DaryHeap(int totalHeapSize, int arity){
+        this.H = new int[totalHeapSize];
+        this.D = new int[totalHeapSize];
+        this.P = new int[totalHeapSize];
+        Arrays.fill(this.P, -1);
+        this.arity = arity;
+        this.HEAP_SIZE = 0;
+    }
+
+    @Override
+    public void insert(int id, int bandWidth) {
+        this.counters.inserts++;
+        int i = this.HEAP_SIZE++;
+        this.H[i] = id;
+        this.D[i] = bandWidth;
+        this.P[id] = i;
+        heapifyUp(i);
+        this.counters.endOperation();
+    }
+
+    @Override
+    public void adjust(int id, int bandwidth) {
+        this.counters.adjusts++;
+        int i = this.P[id];
+        this.D[i] = bandwidth;
+        heapifyUp(i);
+        this.counters.endOperation();
+    }
+
+    @Override
+    public void delete(int id) {
+        this.counters.deletes++;
+        int i = this.P[id];
+        this.P[id] = -1;
+        int last = --this.HEAP_SIZE;
+        if(i == last) {
+            this.counters.endOperation();
+            return;
+        }
+
+        this.H[i] = this.H[last];
+        this.D[i] = this.D[last];
+        this.P[this.H[i]] = i;
+        heapifyDown(heapifyUp(i));
+        this.counters.endOperation();
+    }
+
+    @Override
+    public int maxId() {
+        return this.H[0];
+    }
+
+    @Override
+    public int maxKey() {
+        return this.D[0];
+    }
+
+    @Override
+    public void clear() {
+        for(int i=0; i<this.HEAP_SIZE; ++i)
+            this.P[this.H[i]] = -1;
+        this.HEAP_SIZE = 0;
+    }
+
+    @Override
+    public int getHeapSize() {
+        return this.HEAP_SIZE;
+    }
+
+    /**
+     * Method to move ith element up the tree until its parent is not smaller. The element is held aside and
+     * written once at its final position instead of being swapped at every level.
+     *
+     * @param i - ith element index
+     * @return - element index of where the element stopped
+     */
+    private int heapifyUp(int i){
+        int id = this.H[i];
+        int bandwidth = this.D[i];
+        while(i > 0){
+            int parentI = (i - 1) / this.arity;
+            if(this.D[parentI] >= bandwidth)
+                break;
+            this.H[i] = this.H[parentI];
+            this.D[i] = this.D[parentI];
+            this.P[this.H[i]] = i;
+            this.counters.siftSteps++;
+            i = parentI;
+        }
+        this.H[i] = id;
+        this.D[i] = bandwidth;
+        this.P[id] = i;
+        return i;
+    }
+
+    /**
+     * Method to move ith element down the tree until no child is larger.
+     *
+     * @param i - ith element index
+     */
+    private void heapifyDown(int i){
+        int id = this.H[i];
+        int bandwidth = this.D[i];
+        while(true){
+            int firstChild = this.arity * i + 1;
+            if(firstChild >= this.HEAP_SIZE)
+                break;
+
+            int lastChild = Math.min(firstChild + this.arity, this.HEAP_SIZE);
+            int largeChildIndex = firstChild;
+            for(int c = firstChild + 1; c < lastChild; ++c)
+                if(this.D[c] > this.D[largeChildIndex])
+                    largeChildIndex = c;
+
+            if(this.D[largeChildIndex] <= bandwidth)
+                break;
+            this.H[i] = this.H[largeChildIndex];
+            this.D[i] = this.D[largeChildIndex];
+            this.P[this.H[i]] = i;
+            this.counters.siftSteps++;
+            i = largeChildIndex;
+        }
+        this.H[i] = id;
+        this.D[i] = bandwidth;
+        this.P[id] = i;
+    }
+
+    @Override
+    public QueueCounters getCounters() {
+        return this.counters;
+    }
+}
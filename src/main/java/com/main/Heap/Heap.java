@@ -2,12 +2,13 @@ package com.main.Heap;
 
 import java.util.Arrays;
 
-public class Heap {
+public class Heap implements MaxPriorityQueue {
 
     private int H[];
     private int D[];
     private int P[];
     private int HEAP_SIZE;
+    private final QueueCounters counters = new QueueCounters();
 
     /**
      * Constructor to initialize H, D and P arrays to totalHeapSize params.
@@ -29,14 +30,18 @@ public class Heap {
      * @param id - Id of the element to be adjusted in H, D and P arrays.
      * @param bandwidth - New bandwidth value of the vertex=id
      */
+    @Override
     public void adjust(int id, int bandwidth){
         int i = this.P[id];
         D[i] = bandwidth;
+        this.counters.adjusts++;
         heapifyUp(i);
+        this.counters.endOperation();
     }
 
     /**
-     * Method to return max element id and data/bandwidth stored in heap arrays.
+     * Method to return max element id and data/bandwidth stored in heap arrays. Allocates a new array on every
+     * call, searches use maxId and maxKey instead.
      *
      * @return - array with vertex id and bandwidth value.
      */
@@ -44,14 +49,26 @@ public class Heap {
         return new int[]{H[0], D[0]};
     }
 
+    @Override
+    public int maxId() {
+        return H[0];
+    }
+
+    @Override
+    public int maxKey() {
+        return D[0];
+    }
+
     /**
      * Method to insert element into the heap.
      *
      * @param id - Id of the element to be inserted in H, D and P arrays.
      * @param bandWidth - New bandwidth value of the vertex=id
      */
+    @Override
     public void insert(int id, int bandWidth) {
         //Increase H length by 1 and adding a to last index
+        this.counters.inserts++;
         int i = this.HEAP_SIZE;
         this.HEAP_SIZE++;
         this.H[i] = id;
@@ -59,10 +76,13 @@ public class Heap {
         this.D[i] = bandWidth;
 
         //if a was the first element in H then return as no swap needed
-        if(this.HEAP_SIZE == 1)
+        if(this.HEAP_SIZE == 1) {
+            this.counters.endOperation();
             return;
+        }
 
         heapifyUp(i);
+        this.counters.endOperation();
     }
 
     /**
@@ -70,9 +90,11 @@ public class Heap {
      *
      * @param id - Id of the element to be deleted from H, D and P arrays.
      */
+    @Override
     public void delete(int id) {
         //Replace ith element with the last element in Heap H
         //and decrease overall length of H by 1
+        this.counters.deletes++;
         int i = this.P[id];
         this.P[id] = -1;
 
@@ -87,9 +109,13 @@ public class Heap {
 
         //If there is 0 or only 1 element remaining after the deletion then return
         //No need to perform swaps
-        if(H.length < 2) return;
+        if(H.length < 2) {
+            this.counters.endOperation();
+            return;
+        }
 
         heapifyDown(i);
+        this.counters.endOperation();
     }
 
     /**
@@ -152,6 +178,7 @@ public class Heap {
 
             //As we performed the above swap, updating the index values for parent and
             //re-computing the largest child index
+            this.counters.siftSteps++;
             smallestElementIndex = largeChildIndex;
             largeChildIndex = computeLargeChildIndex(smallestElementIndex);
         }
@@ -189,6 +216,7 @@ public class Heap {
             D[parentI] = tempD;
 
             //Updating index value to parent index value
+            this.counters.siftSteps++;
             i = parentI;
 
             //Using the formula to calculate parent index
@@ -262,7 +290,23 @@ public class Heap {
         return this.H;
     }
 
+    /**
+     * Method to remove all the elements from the heap so that it can be reused by the next search.
+     */
+    @Override
+    public void clear() {
+        for(int i=0; i<this.HEAP_SIZE; ++i)
+            this.P[this.H[i]] = -1;
+        this.HEAP_SIZE = 0;
+    }
+
+    @Override
     public int getHeapSize() {
         return HEAP_SIZE;
     }
-}
\ No newline at end of file
+
+    @Override
+    public QueueCounters getCounters() {
+        return this.counters;
+    }
+}
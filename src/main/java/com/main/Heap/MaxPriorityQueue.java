@@ -0,0 +1,52 @@
+package com.main.Heap;
+
+/**
+ * Indexed max priority queue over element ids 0..n-1 as used by the maximum bandwidth searches.
+ */
+public interface MaxPriorityQueue {
+
+    /**
+     * Method to insert element into the queue.
+     *
+     * @param id - Id of the element to be inserted.
+     * @param bandWidth - Bandwidth value of the vertex=id
+     */
+    void insert(int id, int bandWidth);
+
+    /**
+     * Method to increase the key of an element already in the queue.
+     *
+     * @param id - Id of the element to be adjusted.
+     * @param bandwidth - New bandwidth value of the vertex=id, not smaller than the current one.
+     */
+    void adjust(int id, int bandwidth);
+
+    /**
+     * Method to delete element from the queue.
+     *
+     * @param id - Id of the element to be deleted.
+     */
+    void delete(int id);
+
+    /**
+     * @return - Id of an element with the largest key.
+     */
+    int maxId();
+
+    /**
+     * @return - Largest key in the queue.
+     */
+    int maxKey();
+
+    /**
+     * Method to remove all the elements from the queue so that it can be reused by the next search.
+     */
+    void clear();
+
+    int getHeapSize();
+
+    /**
+     * @return - Operation counts of this queue since they were last reset.
+     */
+    QueueCounters getCounters();
+}
@@ -0,0 +1,165 @@
+package com.main.Heap;
+
+/**
+ * Max pairing heap with all the nodes stored in primitive arrays indexed by element id. Insert and adjust
+ * are O(1) melds, delete is O(log n) amortized, which pays off when a search does many more adjust calls
+ * than deletes as on the dense graph.
+ */
+public class PairingHeap implements MaxPriorityQueue {
+
+    private final int[] key;
+    private final int[] child;
+    private final int[] sibling;
+    private final int[] prev;
+    private final int[] pairs;
+    private int root;
+    private int size;
+    private final QueueCounters counters = new QueueCounters();
+
+    /**
+     * Constructor to initialize the node arrays.
+     *
+     * @param totalHeapSize - Maximum size of heap, element ids must be smaller than it.
+     */
+    public PairingHeap(int totalHeapSize){
+        this.key = new int[totalHeapSize];
+        this.child = new int[totalHeapSize];
+        this.sibling = new int[totalHeapSize];
+        this.prev = new int[totalHeapSize];
+        this.pairs = new int[totalHeapSize];
+        this.root = -1;
+        this.size = 0;
+    }
+
+    @Override
+    public void insert(int id, int bandWidth) {
+        this.counters.inserts++;
+        this.key[id] = bandWidth;
+        this.child[id] = -1;
+        this.sibling[id] = -1;
+        this.prev[id] = -1;
+        this.root = meld(this.root, id);
+        this.size++;
+        this.counters.endOperation();
+    }
+
+    @Override
+    public void adjust(int id, int bandwidth) {
+        this.counters.adjusts++;
+        this.key[id] = bandwidth;
+        if(id != this.root) {
+            cut(id);
+            this.root = meld(this.root, id);
+        }
+        this.counters.endOperation();
+    }
+
+    @Override
+    public void delete(int id) {
+        this.counters.deletes++;
+        if(id != this.root) {
+            cut(id);
+            this.root = meld(this.root, mergePairs(this.child[id]));
+        } else {
+            this.root = mergePairs(this.child[id]);
+        }
+        this.size--;
+        this.counters.endOperation();
+    }
+
+    @Override
+    public int maxId() {
+        return this.root;
+    }
+
+    @Override
+    public int maxKey() {
+        return this.key[this.root];
+    }
+
+    @Override
+    public void clear() {
+        this.root = -1;
+        this.size = 0;
+    }
+
+    @Override
+    public int getHeapSize() {
+        return this.size;
+    }
+
+    /**
+     * Method to link two trees making the smaller root the first child of the larger one.
+     *
+     * @param a - Root of the first tree or -1.
+     * @param b - Root of the second tree or -1.
+     * @return - Root of the linked tree.
+     */
+    private int meld(int a, int b){
+        if(a == -1)
+            return b;
+        if(b == -1)
+            return a;
+        this.counters.siftSteps++;
+        if(this.key[b] > this.key[a]) {
+            int temp = a; a = b; b = temp;
+        }
+
+        this.sibling[b] = this.child[a];
+        if(this.child[a] != -1)
+            this.prev[this.child[a]] = b;
+        this.prev[b] = a;
+        this.child[a] = b;
+        this.sibling[a] = -1;
+        this.prev[a] = -1;
+        return a;
+    }
+
+    /**
+     * Method to detach the subtree of id from its parent and siblings.
+     *
+     * @param id - Id of the element whose subtree is detached.
+     */
+    private void cut(int id){
+        int p = this.prev[id];
+        if(this.child[p] == id)
+            this.child[p] = this.sibling[id];
+        else
+            this.sibling[p] = this.sibling[id];
+        if(this.sibling[id] != -1)
+            this.prev[this.sibling[id]] = p;
+        this.sibling[id] = -1;
+        this.prev[id] = -1;
+    }
+
+    /**
+     * Two pass pairing: meld the siblings in pairs from left to right, then meld the pairs from right to left.
+     *
+     * @param first - First tree of the sibling list or -1.
+     * @return - Root of the combined tree.
+     */
+    private int mergePairs(int first){
+        int count = 0;
+        while(first != -1){
+            int second = this.sibling[first];
+            int rest = (second == -1) ? -1 : this.sibling[second];
+            this.sibling[first] = -1;
+            if(second != -1)
+                this.sibling[second] = -1;
+            this.pairs[count++] = meld(first, second);
+            first = rest;
+        }
+
+        int result = -1;
+        while(count > 0)
+            result = meld(this.pairs[--count], result);
+        if(result != -1)
+            this.prev[result] = -1;
+        return result;
+    }
+
+    @Override
+    public QueueCounters getCounters() {
+        return this.counters;
+    }
+}
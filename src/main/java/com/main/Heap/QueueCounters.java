@@ -0,0 +1,76 @@
+package com.main.Heap;
+
+import java.util.Arrays;
+
+/**
+ * Operation counts of one priority queue. Queues are owned by a single search at a time, so the counts are
+ * plain fields bumped without any synchronization, and the search hands them to the shared metrics once
+ * it is done.
+ */
+public class QueueCounters {
+
+    //Depths above the last bucket are counted in it
+    public static final int SIFT_DEPTHS = 32;
+
+    long inserts;
+
+    long adjusts;
+
+    long deletes;
+
+    //Levels moved by sift up and sift down, links made by the pairing heap or empty buckets skipped
+    long siftSteps;
+
+    //Number of operations which took exactly d sift steps, work done between two operations counts for the next
+    private final long[] siftDepths = new long[SIFT_DEPTHS];
+
+    private long siftStepsBefore;
+
+    public long getInserts() {
+        return this.inserts;
+    }
+
+    public long getAdjusts() {
+        return this.adjusts;
+    }
+
+    public long getDeletes() {
+        return this.deletes;
+    }
+
+    public long getSiftSteps() {
+        return this.siftSteps;
+    }
+
+    /**
+     * Method to read the number of operations per sift depth.
+     *
+     * @param depth - Number of sift steps, the last depth also counts the deeper operations.
+     * @return - Number of operations that took depth sift steps.
+     */
+    public long getSiftDepthCount(int depth) {
+        return this.siftDepths[depth];
+    }
+
+    /**
+     * Method called by the queues at the end of every insert, adjust and delete to count the sift steps it took
+     * in the depth histogram.
+     */
+    void endOperation(){
+        long depth = this.siftSteps - this.siftStepsBefore;
+        this.siftDepths[(int) Math.min(depth, SIFT_DEPTHS - 1)]++;
+        this.siftStepsBefore = this.siftSteps;
+    }
+
+    /**
+     * Method to set every count back to 0 once it has been read.
+     */
+    public void reset(){
+        this.inserts = 0;
+        this.adjusts = 0;
+        this.deletes = 0;
+        this.siftSteps = 0;
+        this.siftStepsBefore = 0;
+        Arrays.fill(this.siftDepths, 0);
+    }
+}
@@ -0,0 +1,34 @@
+package com.main.Heap;
+
+/**
+ * Available MaxPriorityQueue implementations, selectable at runtime.
+ */
+public enum QueueType {
+    BINARY_HEAP,
+    FOUR_ARY_HEAP,
+    PAIRING_HEAP,
+    BUCKET_QUEUE;
+
+    /**
+     * Method to create a new queue of this type. A bucket queue needs one bucket per key, so when maxKey is
+     * larger than BucketQueue.MAX_KEY a 4-ary heap is created instead.
+     *
+     * @param totalQueueSize - Maximum number of elements, element ids must be smaller than it.
+     * @param maxKey - Largest key which will ever be inserted, only used by the bucket queue.
+     * @return - The newly created queue.
+     */
+    public MaxPriorityQueue create(int totalQueueSize, int maxKey){
+        switch(this){
+            case FOUR_ARY_HEAP:
+                return new DaryHeap(totalQueueSize, 4);
+            case PAIRING_HEAP:
+                return new PairingHeap(totalQueueSize);
+            case BUCKET_QUEUE:
+                if(maxKey > BucketQueue.MAX_KEY)
+                    return new DaryHeap(totalQueueSize, 4);
+                return new BucketQueue(totalQueueSize, maxKey);
+            default:
+                return new Heap(totalQueueSize);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.main;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads and writes experiment results as CSV or JSON. CSV files can be read back, which is what the JavaFX
+ * viewer uses to chart results produced on another machine.
+ */
+public class ResultsFile {
+
+    private static final String CSV_HEADER = "iteration,graph,typeOfGraph,source,destination,algorithm,bandwidth,runtimeMillis";
+
+    private ResultsFile(){
+    }
+
+    /**
+     * Method to write results in the given format.
+     *
+     * @param results - Results to write.
+     * @param format - csv or json.
+     * @param out - Stream receiving the results.
+     */
+    public static void write(List<ExperimentResult> results, String format, PrintStream out){
+        if(format.equals("json"))
+            writeJson(results, out);
+        else if(format.equals("csv"))
+            writeCsv(results, out);
+        else
+            throw new IllegalArgumentException("Unknown results format: " + format);
+        out.flush();
+    }
+
+    /**
+     * Method to write results to a file.
+     *
+     * @param results - Results to write.
+     * @param format - csv or json.
+     * @param path - Output file.
+     * @throws IOException - If the file can not be written.
+     */
+    public static void write(List<ExperimentResult> results, String format, Path path) throws IOException {
+        try(PrintStream out = new PrintStream(Files.newOutputStream(path), false, StandardCharsets.UTF_8)) {
+            write(results, format, out);
+        }
+    }
+
+    /**
+     * Method to guess the format of a results file from its extension.
+     *
+     * @param path - Results file.
+     * @return - json for .json files, csv otherwise.
+     */
+    public static String formatOf(Path path){
+        return path.toString().toLowerCase(Locale.ROOT).endsWith(".json") ? "json" : "csv";
+    }
+
+    private static void writeCsv(List<ExperimentResult> results, PrintStream out){
+        out.println(CSV_HEADER);
+        for(ExperimentResult r : results){
+            out.println(r.getIteration() + "," + r.getGraph() + "," + r.getTypeOfGraph() + "," + r.getSource() + ","
+                    + r.getDestination() + "," + r.getAlgorithm() + "," + r.getBandwidth() + ","
+                    + String.format(Locale.ROOT, "%.3f", r.getRuntime()));
+        }
+    }
+
+    private static void writeJson(List<ExperimentResult> results, PrintStream out){
+        out.println("[");
+        for(int i=0; i<results.size(); ++i){
+            ExperimentResult r = results.get(i);
+            out.print("  {\"iteration\": " + r.getIteration() + ", \"graph\": " + r.getGraph()
+                    + ", \"typeOfGraph\": \"" + r.getTypeOfGraph() + "\", \"source\": " + r.getSource()
+                    + ", \"destination\": " + r.getDestination() + ", \"algorithm\": \"" + r.getAlgorithm()
+                    + "\", \"bandwidth\": " + r.getBandwidth() + ", \"runtimeMillis\": "
+                    + String.format(Locale.ROOT, "%.3f", r.getRuntime()) + "}");
+            out.println((i < results.size() - 1) ? "," : "");
+        }
+        out.println("]");
+    }
+
+    /**
+     * Method to read results written in CSV format.
+     *
+     * @param path - CSV file written by write.
+     * @return - Results in file order.
+     * @throws IOException - If the file can not be read or is not a results file.
+     */
+    public static List<ExperimentResult> readCsv(Path path) throws IOException {
+        List<ExperimentResult> results = new ArrayList<>();
+        try(BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            if(line == null || !line.equals(CSV_HEADER))
+                throw new IOException("Not a results file: " + path);
+
+            while((line = reader.readLine()) != null){
+                if(line.isBlank())
+                    continue;
+                String[] fields = line.split(",");
+                if(fields.length != 8)
+                    throw new IOException("Invalid results line: " + line);
+                results.add(new ExperimentResult(Integer.parseInt(fields[0]), Integer.parseInt(fields[1]), fields[2],
+                        Integer.parseInt(fields[3]), Integer.parseInt(fields[4]), fields[5],
+                        Integer.parseInt(fields[6]), Double.parseDouble(fields[7])));
+            }
+        }
+        return results;
+    }
+}
@@ -0,0 +1,192 @@
+package com.main;
+
+import com.main.Algo.Boruvka;
+import com.main.Algo.BottleneckIndex;
+import com.main.Algo.DeltaStepping;
+import com.main.Algo.Kruskals;
+import com.main.Algo.Metrics;
+import com.main.Algo.QueryRunner;
+import com.main.Graph.CompactGraph;
+import com.main.Graph.Graph;
+import com.main.Graph.GraphGenerator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Headless scaling run over CSR graphs built by GraphGenerator, meant for 100k to 10M vertices where the
+ * Vertex based graphs and the charts do not fit anymore. For every vertex count of the configuration it
+ * generates the sparse graph and, when its edge count fits in a CompactGraph, the dense graph, then times the
+ * spanning tree engines and the configured number of queries and checks that all engines agree.
+ */
+public class ScalingExperiment {
+
+    private final ExperimentConfig config;
+
+    private final List<String[]> rows = new ArrayList<>();
+
+    public ScalingExperiment(ExperimentConfig config){
+        this.config = config;
+    }
+
+    /**
+     * This method runs the experiment for every configured vertex count and prints the timing table.
+     *
+     * @throws Exception - If any engine gave a different bandwidth than the others.
+     */
+    public void run() throws Exception {
+        System.out.println("Scaling experiment: " + this.config);
+        this.rows.add(new String[]{"Vertices", "Graph", "Edges", "Generate(ms)", "Kruskals(ms)", "Boruvka(ms)",
+                "Index(ms)", "Dijkstras(ms/query)", "DeltaStepping(ms/query)", "Index(us/query)"});
+
+        int[] sizes = this.config.getScaleSizes();
+        for(int i=0; i<sizes.length; ++i){
+            int n = sizes[i];
+            long seed = this.config.getSeed() + i;
+            int sparseDegree = Math.min(this.config.getSparseDegree(), n - 1);
+            if(fits(n, sparseDegree, "Sparse"))
+                run(new GraphGenerator(seed, n, sparseDegree), n, "Sparse");
+
+            int minDegree = this.config.getDenseMinDegree();
+            int maxDegree = this.config.getDenseMaxDegree();
+            if(maxDegree >= n) {
+                System.out.println("Skipping dense graph with " + n + " vertices: degree " + maxDegree + " is too large");
+                continue;
+            }
+            if(fits(n, maxDegree, "Dense"))
+                run(new GraphGenerator(seed, n, minDegree, maxDegree, Graph.MAX_WEIGHT), n, "Dense");
+        }
+
+        System.out.println(formatTable());
+        System.out.println("Metrics: " + Metrics.global());
+    }
+
+    /**
+     * Method to check that a generated graph fits before building it, printing why it is skipped otherwise.
+     * Both arc directions are stored in int indexed arrays, and at the peak the heap holds the arc arrays (two
+     * arcs of 8 bytes per edge) next to the edge list GraphGenerator packs them from, which Kruskals later
+     * needs again with its sort keys (20 bytes per edge).
+     *
+     * @param n - Number of vertices.
+     * @param maxDegree - Largest target degree of a vertex.
+     * @param typeOfGraph - String to report which type of graph is being checked.
+     * @return - True if the graph can be generated and run.
+     */
+    private static boolean fits(int n, int maxDegree, String typeOfGraph){
+        //Every vertex owns its cycle edge and proposes half of the rest of its degree
+        long edges = (long) n * (1 + (maxDegree - 1) / 2);
+        if(2 * edges >= Integer.MAX_VALUE) {
+            System.out.println("Skipping " + typeOfGraph.toLowerCase() + " graph with " + n + " vertices: degree "
+                    + maxDegree + " is too large");
+            return false;
+        }
+        long neededBytes = edges * (2 * 8 + 20) + (long) n * 8;
+        long maxMemory = Runtime.getRuntime().maxMemory();
+        if(neededBytes > maxMemory) {
+            System.out.println("Skipping " + typeOfGraph.toLowerCase() + " graph with " + n + " vertices: needs about "
+                    + (neededBytes >> 20) + " MB but the heap is limited to " + (maxMemory >> 20) + " MB");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * This method generates one graph and times all the engines on it.
+     *
+     * @param generator - Generator of the graph.
+     * @param n - Number of vertices.
+     * @param typeOfGraph - String to report which type of graph is being run.
+     * @throws Exception - If any engine gave a different bandwidth than the others.
+     */
+    private void run(GraphGenerator generator, int n, String typeOfGraph) throws Exception {
+        long start = System.nanoTime();
+        CompactGraph graph = generator.generate();
+        double generateTime = elapsedMillis(start);
+
+        start = System.nanoTime();
+        CompactGraph kruskalsTree = Kruskals.maximumSpanningTree(graph);
+        double kruskalsTime = elapsedMillis(start);
+
+        start = System.nanoTime();
+        CompactGraph boruvkaTree = new Boruvka().maximumSpanningTree(graph);
+        double boruvkaTime = elapsedMillis(start);
+        if(!Arrays.equals(kruskalsTree.getTargets(), boruvkaTree.getTargets())
+                || !Arrays.equals(kruskalsTree.getWeights(), boruvkaTree.getWeights()))
+            throw new Exception("Invalid result as Kruskals and Boruvka should build the same maximum spanning tree");
+
+        start = System.nanoTime();
+        BottleneckIndex index = new BottleneckIndex(kruskalsTree);
+        double indexTime = elapsedMillis(start);
+
+        //Same pairs for every engine, drawn from the seed so runs can be compared
+        int numberOfQueries = this.config.getPairsPerGraph();
+        SplittableRandom random = new SplittableRandom(this.config.getSeed() ^ n);
+        int[] sources = new int[numberOfQueries];
+        int[] destinations = new int[numberOfQueries];
+        for(int q=0; q<numberOfQueries; ++q){
+            sources[q] = random.nextInt(n);
+            destinations[q] = random.nextInt(n);
+            while(sources[q] == destinations[q])
+                destinations[q] = random.nextInt(n);
+        }
+
+        int[] fromDijkstras;
+        start = System.nanoTime();
+        try(QueryRunner runner = new QueryRunner(graph, this.config.getNumberOfThreads())) {
+            fromDijkstras = runner.maxBandwidths(sources, destinations);
+        }
+        double dijkstrasTime = elapsedMillis(start) / numberOfQueries;
+
+        //One query at a time, each using every core of the pool
+        int[] fromDeltaStepping = new int[numberOfQueries];
+        DeltaStepping deltaStepping = new DeltaStepping();
+        start = System.nanoTime();
+        for(int q=0; q<numberOfQueries; ++q)
+            fromDeltaStepping[q] = deltaStepping.query(graph, sources[q], destinations[q]).getBandwidth();
+        double deltaSteppingTime = elapsedMillis(start) / numberOfQueries;
+
+        int[] fromIndex = new int[numberOfQueries];
+        start = System.nanoTime();
+        for(int q=0; q<numberOfQueries; ++q)
+            fromIndex[q] = index.maxBandwidth(sources[q], destinations[q]);
+        double indexQueryTime = elapsedMillis(start) * 1000 / numberOfQueries;
+
+        if(!Arrays.equals(fromDijkstras, fromIndex) || !Arrays.equals(fromDeltaStepping, fromIndex))
+            throw new Exception("Invalid result as Maximum Bandwidth value should be the same for all algos");
+
+        System.out.println(typeOfGraph + " graph with " + n + " vertices and " + graph.getNumberOfEdges() + " edges done");
+        this.rows.add(new String[]{String.valueOf(n), typeOfGraph, String.valueOf(graph.getNumberOfEdges()),
+                format(generateTime), format(kruskalsTime), format(boruvkaTime), format(indexTime),
+                format(dijkstrasTime), format(deltaSteppingTime), format(indexQueryTime)});
+    }
+
+    private static double elapsedMillis(long start){
+        return (System.nanoTime() - start) / 1e6;
+    }
+
+    private static String format(double value){
+        return String.format("%.3f", value);
+    }
+
+    /**
+     * Creates table with all the timings, one column per engine.
+     *
+     * @return - Table in string format.
+     */
+    private String formatTable(){
+        int[] maxLengths = new int[this.rows.get(0).length];
+        for(String[] row : this.rows)
+            for(int i=0; i<row.length; ++i)
+                maxLengths[i] = Math.max(maxLengths[i], row[i].length() + 2);
+
+        StringBuilder result = new StringBuilder();
+        for(String[] row : this.rows){
+            for(int i=0; i<row.length; ++i)
+                result.append(String.format("%-" + maxLengths[i] + "s", row[i]));
+            result.append("\n");
+        }
+        return result.toString();
+    }
+}
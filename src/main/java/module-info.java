@@ -4,7 +4,11 @@ module com.example.demo {
 
     requires org.controlsfx.controls;
     requires org.kordamp.bootstrapfx.core;
+    requires java.management;
 
     opens com.main to javafx.fxml;
     exports com.main;
+    exports com.main.Algo;
+    exports com.main.Graph;
+    exports com.main.Heap;
 }
\ No newline at end of file
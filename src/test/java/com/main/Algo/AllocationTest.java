@@ -0,0 +1,83 @@
+package com.main.Algo;
+
+import com.main.Graph.CompactGraph;
+import com.main.Graph.GraphGenerator;
+import com.main.Heap.QueueType;
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Once warmed up, the CSR searches must not allocate. The allocated bytes counter of the current thread is read
+ * around repeated searches through the platform MBean server, so only java.management is needed.
+ */
+class AllocationTest {
+
+    private static final int WARMUP_SEARCHES = 200;
+
+    private static final int MEASURED_SEARCHES = 50;
+
+    //A compilation or deoptimization can allocate during a single round, an allocating loop does in every round
+    private static final int MEASURED_ROUNDS = 5;
+
+    private interface Search {
+        void run(int source);
+    }
+
+    @Test
+    void csrSearchesDoNotAllocate() throws JMException {
+        CompactGraph[] graphs = {
+                new GraphGenerator(11, 5000, 6).generate(),
+                new GraphGenerator(11, 1000, 100).generate()
+        };
+        for(CompactGraph graph : graphs){
+            int n = graph.getNumberOfVertices();
+            SearchContext context = new SearchContext(n);
+            for(QueueType queueType : QueueType.values()){
+                Dijkstras dijkstras = new Dijkstras(0, queueType, SearchEngine.HEAP);
+                assertEquals(0, bytesPerSearch(source -> dijkstras.search(graph, source, context), n),
+                        "HEAP " + queueType + " on " + n + " vertices");
+            }
+            Dijkstras arrayScan = new Dijkstras(0, QueueType.BINARY_HEAP, SearchEngine.ARRAY_SCAN);
+            assertEquals(0, bytesPerSearch(source -> arrayScan.search(graph, source, context), n),
+                    "ARRAY_SCAN on " + n + " vertices");
+        }
+    }
+
+    /**
+     * Method to warm a search up, then measure the bytes it allocates per search in the quietest of a few rounds.
+     * The bytes allocated by reading the counter itself are measured the same way and taken off.
+     *
+     * @param search - Search to check.
+     * @param numberOfVertices - Number of vertices, sources are picked among them.
+     * @return - Bytes allocated per search.
+     * @throws JMException - If the counter can not be read.
+     */
+    private static long bytesPerSearch(Search search, int numberOfVertices) throws JMException {
+        for(int i=0; i<WARMUP_SEARCHES; ++i)
+            search.run((i * 7919) % numberOfVertices);
+
+        long fewest = Long.MAX_VALUE;
+        for(int round=0; round<MEASURED_ROUNDS; ++round){
+            long start = allocatedBytes();
+            long overhead = allocatedBytes() - start;
+
+            long before = allocatedBytes();
+            for(int i=0; i<MEASURED_SEARCHES; ++i)
+                search.run((i * 104729 + round) % numberOfVertices);
+            long allocated = allocatedBytes() - before - overhead;
+            fewest = Math.min(fewest, Math.max(0, allocated) / MEASURED_SEARCHES);
+        }
+        return fewest;
+    }
+
+    private static long allocatedBytes() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        return (Long) server.getAttribute(new ObjectName(ManagementFactory.THREAD_MXBEAN_NAME), "CurrentThreadAllocatedBytes");
+    }
+}
@@ -0,0 +1,34 @@
+package com.main.Algo;
+
+import com.main.Graph.CompactGraph;
+import com.main.Heap.QueueType;
+import org.junit.jupiter.api.Test;
+
+import static com.main.Algo.RandomGraphs.assertPath;
+
+/**
+ * The bidirectional query must find the same bandwidth as Dijkstras with heap, along a path of the graph.
+ */
+class BidirectionalSearchTest {
+
+    private static final long[] SEEDS = {1, 2, 3, 4, 5};
+
+    @Test
+    void bidirectionalQueryMatchesWithHeap(){
+        for(long seed : SEEDS){
+            for(CompactGraph graph : RandomGraphs.mixed(seed)){
+                int n = graph.getNumberOfVertices();
+                int source = (int) (seed * 17 % n);
+                int[] expected = RandomGraphs.withHeap(graph, source);
+
+                for(QueueType queueType : QueueType.values()){
+                    Dijkstras dijkstras = new Dijkstras(0, queueType);
+                    SearchContext context = new SearchContext(n);
+                    for(int destination=0; destination<n; destination += 3)
+                        assertPath(graph, source, destination, expected[destination],
+                                dijkstras.bidirectionalQuery(graph, source, destination, context));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.main.Algo;
+
+import com.main.Graph.CompactGraph;
+import com.main.Graph.GraphGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * Boruvka must build the same tree as Kruskals, sequentially and on a pool.
+ */
+class BoruvkaTest {
+
+    private static final long[] SEEDS = {1, 2, 3, 4, 5, 6, 7, 8};
+
+    @Test
+    void boruvkaBuildsKruskalsTree(){
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for(long seed : SEEDS){
+                //Sparse graphs with many ties and unreachable vertices, or connected generated graphs
+                CompactGraph graph = (seed % 2 == 0) ? RandomGraphs.generate(seed, 400, 500, 4)
+                        : new GraphGenerator(seed, 1000, 2, 12, 50).generate();
+                CompactGraph kruskalsTree = Kruskals.maximumSpanningTree(graph);
+                for(Boruvka boruvka : new Boruvka[]{new Boruvka(), new Boruvka(pool)}){
+                    CompactGraph boruvkaTree = boruvka.maximumSpanningTree(graph);
+                    assertArrayEquals(kruskalsTree.getOffsets(), boruvkaTree.getOffsets());
+                    assertArrayEquals(kruskalsTree.getTargets(), boruvkaTree.getTargets());
+                    assertArrayEquals(kruskalsTree.getWeights(), boruvkaTree.getWeights());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.main.Algo;
+
+import com.main.Graph.CompactGraph;
+import com.main.Graph.GraphGenerator;
+import org.junit.jupiter.api.Test;
+
+import static com.main.Algo.RandomGraphs.assertPath;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Every answer read from the maximum spanning tree must match Dijkstras with heap on the whole graph.
+ */
+class BottleneckIndexTest {
+
+    private static final long[] SEEDS = {1, 2, 3, 4, 5, 6};
+
+    @Test
+    void bottleneckIndexMatchesWithHeap(){
+        for(long seed : SEEDS){
+            //Sparse graphs with many ties and unreachable vertices, or connected generated graphs
+            CompactGraph graph = (seed % 2 == 0) ? RandomGraphs.generate(seed, 400, 500, 4)
+                    : new GraphGenerator(seed, 1000, 2, 12, 50).generate();
+            int n = graph.getNumberOfVertices();
+            BottleneckIndex index = BottleneckIndex.fromGraph(graph);
+
+            for(int source=0; source<n; source += n / 5){
+                int[] expected = RandomGraphs.withHeap(graph, source);
+                for(int destination=0; destination<n; ++destination){
+                    assertEquals(expected[destination], index.maxBandwidth(source, destination));
+                    assertPath(graph, source, destination, expected[destination], index.query(source, destination));
+                }
+            }
+        }
+    }
+}
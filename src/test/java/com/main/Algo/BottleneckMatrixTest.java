@@ -0,0 +1,105 @@
+package com.main.Algo;
+
+import com.main.Graph.CompactGraph;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Matrices computed in memory, written to a file and reopened from it must all hold the bandwidths of
+ * Dijkstras with heap.
+ */
+class BottleneckMatrixTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void fileRoundTripMatchesWithHeap() throws IOException {
+        CompactGraph graph = RandomGraphs.generate(42, 300, 450, 8);
+        int n = graph.getNumberOfVertices();
+        Path file = this.directory.resolve("all.bwm");
+
+        BottleneckMatrix memory = BottleneckMatrix.compute(graph);
+        BottleneckMatrix written = BottleneckMatrix.compute(graph, file);
+        BottleneckMatrix reopened = BottleneckMatrix.open(file);
+        assertEquals(n, reopened.getNumberOfRows());
+        assertEquals(n, reopened.getNumberOfVertices());
+
+        for(int source=0; source<n; ++source){
+            int[] expected = RandomGraphs.withHeap(graph, source);
+            for(int destination=0; destination<n; ++destination){
+                assertEquals(expected[destination], memory.get(source, destination));
+                assertEquals(expected[destination], written.get(source, destination));
+                assertEquals(expected[destination], reopened.get(source, destination));
+            }
+        }
+    }
+
+    @Test
+    void sourceRowsRoundTrip() throws IOException {
+        CompactGraph graph = RandomGraphs.generate(7, 500, 1500, 100);
+        int[] sources = {499, 3, 250, 0};
+        Path file = this.directory.resolve("rows.bwm");
+
+        BottleneckMatrix.compute(graph, sources, file);
+        BottleneckMatrix reopened = BottleneckMatrix.open(file);
+        assertArrayEquals(sources, reopened.getSources());
+        for(int source : sources){
+            int[] expected = RandomGraphs.withHeap(graph, source);
+            for(int destination=0; destination<graph.getNumberOfVertices(); ++destination)
+                assertEquals(expected[destination], reopened.get(source, destination));
+        }
+        assertThrows(IllegalArgumentException.class, () -> reopened.get(1, 0));
+        assertThrows(IllegalArgumentException.class, () -> reopened.get(3, graph.getNumberOfVertices()));
+        assertThrows(IllegalArgumentException.class, () -> reopened.get(3, -1));
+        assertThrows(IllegalArgumentException.class, () -> reopened.get(graph.getNumberOfVertices(), 0));
+        assertThrows(IllegalArgumentException.class, () -> BottleneckMatrix.compute(graph, new int[]{3, 3}));
+        assertThrows(IllegalArgumentException.class, () -> BottleneckMatrix.compute(graph, new int[]{500}));
+    }
+
+    @Test
+    void openRejectsTruncatedFile() throws IOException {
+        Path file = this.directory.resolve("truncated.bwm");
+        BottleneckMatrix.compute(RandomGraphs.generate(3, 100, 200, 10), file);
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(file) - Integer.BYTES);
+        }
+        assertThrows(IOException.class, () -> BottleneckMatrix.open(file));
+    }
+
+    @Test
+    void openRejectsInvalidSources() throws IOException {
+        CompactGraph graph = RandomGraphs.generate(5, 100, 200, 10);
+        Path file = this.directory.resolve("sources.bwm");
+        BottleneckMatrix.compute(graph, new int[]{10, 20, 30}, file);
+
+        //Sources follow the 4 header ints
+        overwriteInt(file, 5, 100);
+        assertThrows(IOException.class, () -> BottleneckMatrix.open(file));
+        overwriteInt(file, 5, -1);
+        assertThrows(IOException.class, () -> BottleneckMatrix.open(file));
+        overwriteInt(file, 5, 10);
+        assertThrows(IOException.class, () -> BottleneckMatrix.open(file));
+        overwriteInt(file, 5, 20);
+        BottleneckMatrix.open(file);
+    }
+
+    private static void overwriteInt(Path file, int index, int value) throws IOException {
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(0, value);
+            channel.write(buffer, (long) index * Integer.BYTES);
+        }
+    }
+}
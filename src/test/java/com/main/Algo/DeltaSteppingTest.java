@@ -0,0 +1,41 @@
+package com.main.Algo;
+
+import com.main.Graph.CompactGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static com.main.Algo.RandomGraphs.assertPath;
+import static com.main.Algo.RandomGraphs.assertTree;
+
+/**
+ * Delta-stepping must find the bandwidths of Dijkstras with heap for any number of buckets.
+ */
+class DeltaSteppingTest {
+
+    private static final long[] SEEDS = {1, 2, 3, 4, 5};
+
+    @Test
+    void deltaSteppingMatchesWithHeap(){
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for(long seed : SEEDS){
+                for(CompactGraph graph : RandomGraphs.mixed(seed)){
+                    int n = graph.getNumberOfVertices();
+                    int source = (int) (seed * 13 % n);
+                    int[] expected = RandomGraphs.withHeap(graph, source);
+
+                    for(int numberOfBuckets : new int[]{1, 7, DeltaStepping.DEFAULT_NUMBER_OF_BUCKETS}){
+                        DeltaStepping deltaStepping = new DeltaStepping(pool, numberOfBuckets);
+                        assertTree(graph, expected, deltaStepping.search(graph, source));
+                        for(int destination=0; destination<n; destination += 11)
+                            assertPath(graph, source, destination, expected[destination],
+                                    deltaStepping.query(graph, source, destination));
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
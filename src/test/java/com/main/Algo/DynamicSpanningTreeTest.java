@@ -0,0 +1,105 @@
+package com.main.Algo;
+
+import com.main.Graph.CompactGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static com.main.Algo.RandomGraphs.assertPath;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * After every batch of cuts, links and bandwidth changes the maintained forest must answer like Dijkstras with
+ * heap on the current graph and weigh as much as the forest Kruskals builds from scratch.
+ */
+class DynamicSpanningTreeTest {
+
+    @Test
+    void matchesWithHeapAfterCutAndLink(){
+        for(long seed=1; seed<=4; ++seed){
+            Random random = new Random(seed);
+            int n = 200;
+            DynamicSpanningTree dynamic = new DynamicSpanningTree(RandomGraphs.generate(seed, n, 400, 20));
+            assertMatches(dynamic);
+
+            for(int batch=0; batch<10; ++batch){
+                for(int change=0; change<15; ++change){
+                    int u = random.nextInt(n);
+                    int v = random.nextInt(n);
+                    switch(random.nextInt(4)){
+                        case 0:
+                            cutTreeEdge(dynamic, random);
+                            break;
+                        case 1:
+                            dynamic.insertEdge(u, v, 1 + random.nextInt(20));
+                            break;
+                        case 2:
+                            //Narrowing or widening an existing edge, tree edge or not
+                            if(dynamic.getWeight(u, v) >= 0)
+                                dynamic.setWeight(u, v, 1 + random.nextInt(20));
+                            break;
+                        default:
+                            dynamic.removeEdge(u, v);
+                    }
+                }
+                assertMatches(dynamic);
+            }
+        }
+    }
+
+    @Test
+    void removeEdgeReportsMissingEdges(){
+        DynamicSpanningTree dynamic = new DynamicSpanningTree(CompactGraph.fromEdges(3, new int[]{0}, new int[]{1},
+                new int[]{5}, 1));
+        assertFalse(dynamic.removeEdge(1, 2));
+        assertTrue(dynamic.removeEdge(1, 0));
+        assertEquals(-1, dynamic.getWeight(0, 1));
+        assertEquals(0, dynamic.maxBandwidth(0, 1));
+        assertEquals(Integer.MAX_VALUE, dynamic.maxBandwidth(2, 2));
+    }
+
+    /**
+     * Method to remove a random edge of the current forest, so the cut has to be reconnected.
+     *
+     * @param dynamic - Forest under test.
+     * @param random - Random generator of the test.
+     */
+    private static void cutTreeEdge(DynamicSpanningTree dynamic, Random random){
+        CompactGraph tree = dynamic.getTree();
+        if(tree.getNumberOfArcs() == 0)
+            return;
+        int arc = random.nextInt(tree.getNumberOfArcs());
+        int u = 0;
+        while(tree.getOffsets()[u+1] <= arc)
+            u++;
+        assertTrue(dynamic.removeEdge(u, tree.getTargets()[arc]));
+    }
+
+    /**
+     * Method to compare the forest with a search of the current graph from a few sources and with the weight
+     * of a maximum spanning forest built from scratch.
+     *
+     * @param dynamic - Forest under test.
+     */
+    private static void assertMatches(DynamicSpanningTree dynamic){
+        CompactGraph graph = dynamic.getGraph();
+        int n = graph.getNumberOfVertices();
+        for(int source=0; source<n; source += 37){
+            int[] expected = RandomGraphs.withHeap(graph, source);
+            for(int destination=0; destination<n; ++destination){
+                assertEquals(expected[destination], dynamic.maxBandwidth(source, destination));
+                assertPath(graph, source, destination, expected[destination], dynamic.query(source, destination));
+            }
+        }
+        assertEquals(totalWeight(Kruskals.maximumSpanningTree(graph)), totalWeight(dynamic.getTree()));
+    }
+
+    private static long totalWeight(CompactGraph tree){
+        long total = 0;
+        for(int weight : tree.getWeights())
+            total += weight;
+        return total / 2;
+    }
+}
@@ -0,0 +1,119 @@
+package com.main.Algo;
+
+import com.main.Graph.CompactGraph;
+import com.main.Graph.GraphGenerator;
+import com.main.Heap.QueueType;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Seeded random graphs and the Dijkstras with heap reference every engine is compared against.
+ */
+final class RandomGraphs {
+
+    private RandomGraphs(){
+    }
+
+    /**
+     * Method to build a random graph. Few distinct weights give many equally wide paths, and with few edges
+     * some vertices stay unreachable.
+     *
+     * @param seed - Seed of the random generator.
+     * @param numberOfVertices - Total number of vertices in the graph.
+     * @param numberOfEdges - Number of random edges, self loops and duplicates are dropped.
+     * @param maxWeight - Edge weights are drawn uniformly from 1 to maxWeight.
+     * @return - The newly created CompactGraph.
+     */
+    static CompactGraph generate(long seed, int numberOfVertices, int numberOfEdges, int maxWeight){
+        Random random = new Random(seed);
+        int[] sources = new int[numberOfEdges];
+        int[] destinations = new int[numberOfEdges];
+        int[] weights = new int[numberOfEdges];
+        for(int i=0; i<numberOfEdges; ++i){
+            sources[i] = random.nextInt(numberOfVertices);
+            destinations[i] = random.nextInt(numberOfVertices);
+            weights[i] = 1 + random.nextInt(maxWeight);
+        }
+        return CompactGraph.fromEdges(numberOfVertices, sources, destinations, weights, numberOfEdges);
+    }
+
+    /**
+     * Method to build the graphs every engine is checked on for one seed.
+     *
+     * @param seed - Seed of the random generators.
+     * @return - Sparse graphs with unreachable vertices and many ties, and a dense graph which AUTO sends to
+     *           the array scan.
+     */
+    static CompactGraph[] mixed(long seed){
+        return new CompactGraph[]{
+                generate(seed, 300, 250, 5),
+                generate(seed, 500, 2000, 1000),
+                new GraphGenerator(seed, 400, 40).generate()
+        };
+    }
+
+    /**
+     * Method to find the bandwidth of every vertex with the heap search used by Dijkstras.withHeap.
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @param source - Index of the source vertex.
+     * @return - Bandwidth of every vertex, Integer.MAX_VALUE for the source and 0 for unreachable vertices.
+     */
+    static int[] withHeap(CompactGraph graph, int source){
+        int n = graph.getNumberOfVertices();
+        SearchContext context = new SearchContext(n);
+        new Dijkstras(0, QueueType.BINARY_HEAP, SearchEngine.HEAP).search(graph, source, context);
+        int[] bandwidth = new int[n];
+        for(int v=0; v<n; ++v)
+            bandwidth[v] = context.getBandwidth(v);
+        return bandwidth;
+    }
+
+    /**
+     * Method to check a tree against the reference bandwidths, along with the path to every vertex.
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @param expected - Reference bandwidth of every vertex.
+     * @param tree - Tree of the same source built by the engine under test.
+     */
+    static void assertTree(CompactGraph graph, int[] expected, SourceTree tree){
+        int[] actual = new int[expected.length];
+        for(int v=0; v<expected.length; ++v)
+            actual[v] = tree.getBandwidth(v);
+        assertArrayEquals(expected, actual);
+        for(int v=0; v<expected.length; ++v)
+            assertPath(graph, tree.getSource(), v, expected[v], tree.query(v));
+    }
+
+    /**
+     * Method to check that a query answer has the expected bandwidth and a path of the graph that is as wide.
+     *
+     * @param graph - CompactGraph which represents the entire graph.
+     * @param source - Index of the source vertex.
+     * @param destination - Index of the destination vertex.
+     * @param bandwidth - Reference bandwidth, 0 if the destination is unreachable.
+     * @param result - Answer of the engine under test.
+     */
+    static void assertPath(CompactGraph graph, int source, int destination, int bandwidth, PathResult result){
+        assertEquals(bandwidth, result.getBandwidth(), "bandwidth from " + source + " to " + destination);
+        int[] path = result.getPath();
+        if(bandwidth == 0) {
+            assertEquals(0, path.length);
+            return;
+        }
+
+        assertEquals(source, path[0]);
+        assertEquals(destination, path[path.length-1]);
+        int narrowest = Integer.MAX_VALUE;
+        for(int i=1; i<path.length; ++i){
+            int arc = graph.findArc(path[i-1], path[i]);
+            assertTrue(arc >= 0, "no edge (" + path[i-1] + ", " + path[i] + ")");
+            narrowest = Math.min(narrowest, graph.getWeights()[arc]);
+        }
+        assertEquals(bandwidth, narrowest, "narrowest edge of the path from " + source + " to " + destination);
+    }
+}
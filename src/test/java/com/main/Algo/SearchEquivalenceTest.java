@@ -0,0 +1,40 @@
+package com.main.Algo;
+
+import com.main.Graph.CompactGraph;
+import com.main.Heap.QueueType;
+import org.junit.jupiter.api.Test;
+
+import static com.main.Algo.RandomGraphs.assertPath;
+import static com.main.Algo.RandomGraphs.assertTree;
+
+/**
+ * Every search engine and priority queue of the CSR searches must find the same bandwidths as Dijkstras with heap.
+ */
+class SearchEquivalenceTest {
+
+    private static final long[] SEEDS = {1, 2, 3, 4, 5};
+
+    @Test
+    void everyQueueAndEngineMatchesWithHeap(){
+        for(long seed : SEEDS){
+            for(CompactGraph graph : RandomGraphs.mixed(seed)){
+                int n = graph.getNumberOfVertices();
+                int source = (int) (seed * 31 % n);
+                int[] expected = RandomGraphs.withHeap(graph, source);
+
+                for(QueueType queueType : QueueType.values()){
+                    for(SearchEngine engine : SearchEngine.values()){
+                        Dijkstras dijkstras = new Dijkstras(0, queueType, engine);
+                        SearchContext context = new SearchContext(n);
+                        dijkstras.search(graph, source, context);
+                        assertTree(graph, expected, new SourceTree(source, context, n));
+
+                        for(int destination=0; destination<n; destination += 7)
+                            assertPath(graph, source, destination, expected[destination],
+                                    dijkstras.query(graph, source, destination, context));
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.main.Algo;
+
+import com.main.Graph.CompactGraph;
+import com.main.Graph.GraphGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static com.main.Algo.RandomGraphs.assertTree;
+
+/**
+ * Labelling the maximum spanning tree from a root, sequentially or on a pool, must give the bandwidths of
+ * Dijkstras with heap on the whole graph.
+ */
+class TreeLabelerTest {
+
+    private static final long[] SEEDS = {1, 2, 3, 4, 5, 6, 7, 8};
+
+    @Test
+    void treeLabelerMatchesWithHeap(){
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            TreeLabeler labeler = new TreeLabeler(pool);
+            for(long seed : SEEDS){
+                //Sparse graphs with many ties and unreachable vertices, or connected generated graphs
+                CompactGraph graph = (seed % 2 == 0) ? RandomGraphs.generate(seed, 400, 500, 4)
+                        : new GraphGenerator(seed, 1000, 2, 12, 50).generate();
+                CompactGraph tree = new Boruvka().maximumSpanningTree(graph);
+                int n = graph.getNumberOfVertices();
+
+                for(int root=0; root<n; root += n / 5){
+                    int[] expected = RandomGraphs.withHeap(graph, root);
+                    assertTree(graph, expected, TreeLabeler.label(tree, root));
+                    assertTree(graph, expected, labeler.labelParallel(tree, root));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.main;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Any vertex count accepted by the parser must give degrees the graph generators accept.
+ */
+class ExperimentConfigTest {
+
+    @Test
+    void defaultDegreesFollowTheVertices(){
+        for(int n : new int[]{3, 7, 100, 1000}){
+            ExperimentConfig config = ExperimentConfig.parse(new String[]{"--vertices=" + n});
+            assertTrue(config.getSparseDegree() >= 2 && config.getSparseDegree() < n);
+            assertTrue(config.getDenseMinDegree() >= 2 && config.getDenseMinDegree() <= config.getDenseMaxDegree());
+            assertTrue(config.getDenseMaxDegree() < n);
+            config.newGraph(1);
+        }
+        ExperimentConfig config = ExperimentConfig.parse(new String[]{"--vertices=1000"});
+        assertEquals(189, config.getDenseMinDegree());
+        assertEquals(218, config.getDenseMaxDegree());
+    }
+
+    @Test
+    void givenDegreesAreKept(){
+        ExperimentConfig config = ExperimentConfig.parse(new String[]{"--vertices=100", "--dense-max-degree=10"});
+        assertEquals(10, config.getDenseMinDegree());
+        assertEquals(10, config.getDenseMaxDegree());
+        assertThrows(IllegalArgumentException.class,
+                () -> ExperimentConfig.parse(new String[]{"--vertices=100", "--dense-max-degree=200"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> ExperimentConfig.parse(new String[]{"--dense-max-degree=5000"}));
+    }
+
+    @Test
+    void tooFewVerticesAreRejected(){
+        assertThrows(IllegalArgumentException.class, () -> ExperimentConfig.parse(new String[]{"--vertices=2"}));
+        assertThrows(IllegalArgumentException.class, () -> ExperimentConfig.parse(new String[]{"--scale=1000,2"}));
+        assertThrows(IllegalArgumentException.class, () -> ExperimentConfig.parse(new String[]{"--sparse-degree=1"}));
+    }
+}
@@ -0,0 +1,99 @@
+package com.main.Graph;
+
+import com.main.Algo.BottleneckIndex;
+import com.main.Algo.Dijkstras;
+import com.main.Algo.SearchContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A graph written to a file must come back the same through both the copying and the mapped path.
+ */
+class GraphFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readGivesTheWrittenGraph() throws IOException {
+        CompactGraph graph = new GraphGenerator(3, 2000, 2, 40, Graph.MAX_WEIGHT).generate();
+        Path file = this.directory.resolve("graph.bwg");
+        GraphFile.write(graph, file);
+
+        CompactGraph loaded = GraphFile.read(file);
+        assertArrayEquals(graph.getOffsets(), loaded.getOffsets());
+        assertArrayEquals(graph.getTargets(), loaded.getTargets());
+        assertArrayEquals(graph.getWeights(), loaded.getWeights());
+        assertEquals(graph.getMaxWeight(), loaded.getMaxWeight());
+
+        MappedGraph mapped = GraphFile.map(file);
+        assertEquals(graph.getNumberOfVertices(), mapped.getNumberOfVertices());
+        assertEquals(graph.getNumberOfArcs(), mapped.getNumberOfArcs());
+        assertEquals(graph.getMaxWeight(), mapped.getMaxWeight());
+        CompactGraph copied = mapped.toCompactGraph();
+        assertArrayEquals(graph.getOffsets(), copied.getOffsets());
+        assertArrayEquals(graph.getTargets(), copied.getTargets());
+        assertArrayEquals(graph.getWeights(), copied.getWeights());
+    }
+
+    @Test
+    void mappedGraphIsSearchedInPlace() throws IOException {
+        CompactGraph graph = new GraphGenerator(5, 3000, 2, 12, 50).generate();
+        Path file = this.directory.resolve("graph.bwg");
+        GraphFile.write(graph, file);
+        MappedGraph mapped = GraphFile.map(file);
+
+        int n = graph.getNumberOfVertices();
+        Dijkstras dijkstras = new Dijkstras(0);
+        SearchContext expected = new SearchContext(n);
+        SearchContext actual = new SearchContext(n);
+        BottleneckIndex index = BottleneckIndex.fromGraph(mapped);
+        for(int source=0; source<n; source += n / 5){
+            dijkstras.search(graph, source, expected);
+            dijkstras.search(mapped, source, actual);
+            for(int destination=0; destination<n; ++destination){
+                assertEquals(expected.getBandwidth(destination), actual.getBandwidth(destination));
+                if(destination != source)
+                    assertEquals(expected.getBandwidth(destination), index.maxBandwidth(source, destination));
+            }
+            int destination = (source + n / 2) % n;
+            assertEquals(expected.getBandwidth(destination),
+                    dijkstras.query(mapped, source, destination, actual).getBandwidth());
+        }
+    }
+
+    @Test
+    void corruptedFilesAreRejected() throws IOException {
+        CompactGraph graph = new GraphGenerator(7, 100, 4).generate();
+        Path file = this.directory.resolve("graph.bwg");
+        GraphFile.write(graph, file);
+
+        //A target out of range is only found by the checks of read
+        overwriteInt(file, 6 + graph.getNumberOfVertices() + 1, graph.getNumberOfVertices());
+        assertThrows(IOException.class, () -> GraphFile.read(file));
+        GraphFile.map(file);
+
+        //A wrong header is found by both
+        overwriteInt(file, 0, 0);
+        assertThrows(IOException.class, () -> GraphFile.read(file));
+        assertThrows(IOException.class, () -> GraphFile.map(file));
+    }
+
+    private static void overwriteInt(Path file, int index, int value) throws IOException {
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(0, value);
+            channel.write(buffer, (long) index * Integer.BYTES);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.main.Heap;
+
+import com.main.Algo.Dijkstras;
+import com.main.Algo.SearchContext;
+import com.main.Graph.CompactGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The bucket queue must pop keys in the same order as the binary heap, and keys above its range must go to the
+ * 4-ary heap instead of allocating one bucket per key.
+ */
+class BucketQueueTest {
+
+    @Test
+    void popsLikeTheBinaryHeap(){
+        Random random = new Random(6);
+        int size = 1000, maxKey = 500;
+        MaxPriorityQueue buckets = new BucketQueue(size, maxKey);
+        MaxPriorityQueue heap = new Heap(size);
+        int[] key = new int[size];
+        boolean[] queued = new boolean[size];
+
+        //Keys only grow while in the queue and never above the last popped key, as in a bandwidth search
+        int top = maxKey;
+        for(int id=0; id<size; ++id){
+            key[id] = random.nextInt(top + 1);
+            buckets.insert(id, key[id]);
+            heap.insert(id, key[id]);
+            queued[id] = true;
+        }
+        while(heap.getHeapSize() > 0){
+            assertEquals(heap.getHeapSize(), buckets.getHeapSize());
+            assertEquals(heap.maxKey(), buckets.maxKey());
+            top = heap.maxKey();
+            int id = buckets.maxId();
+            assertEquals(top, key[id]);
+            buckets.delete(id);
+            heap.delete(id);
+            queued[id] = false;
+
+            int other = random.nextInt(size);
+            if(queued[other] && key[other] < top) {
+                key[other] += random.nextInt(top - key[other] + 1);
+                buckets.adjust(other, key[other]);
+                heap.adjust(other, key[other]);
+            }
+        }
+        assertEquals(0, buckets.getHeapSize());
+    }
+
+    @Test
+    void keysAboveTheRangeUseTheFourAryHeap(){
+        assertInstanceOf(BucketQueue.class, QueueType.BUCKET_QUEUE.create(10, BucketQueue.MAX_KEY));
+        assertInstanceOf(DaryHeap.class, QueueType.BUCKET_QUEUE.create(10, BucketQueue.MAX_KEY + 1));
+        assertThrows(IllegalArgumentException.class, () -> new BucketQueue(10, Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> new BucketQueue(10, -1));
+    }
+
+    @Test
+    void searchesGraphsWithHeavyEdges(){
+        CompactGraph graph = CompactGraph.fromEdges(5, new int[]{0, 1, 2, 0}, new int[]{1, 2, 3, 3},
+                new int[]{Integer.MAX_VALUE, 2000000000, 7, 3}, 4);
+        int[] expected = {Integer.MAX_VALUE, Integer.MAX_VALUE, 2000000000, 7, 0};
+
+        SearchContext context = new SearchContext(5);
+        new Dijkstras(0, QueueType.BUCKET_QUEUE).search(graph, 0, context);
+        for(int v=0; v<5; ++v)
+            assertEquals(expected[v], context.getBandwidth(v));
+    }
+}
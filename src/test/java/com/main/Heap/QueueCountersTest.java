@@ -0,0 +1,52 @@
+package com.main.Heap;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Every insert, adjust and delete must land in exactly one bucket of the sift depth histogram, and the depths
+ * must add up to the sift steps.
+ */
+class QueueCountersTest {
+
+    @Test
+    void siftDepthsAddUpToTheSiftSteps(){
+        for(QueueType queueType : QueueType.values()){
+            int size = 2000;
+            MaxPriorityQueue queue = queueType.create(size, 1000);
+            Random random = new Random(25);
+            int[] key = new int[size];
+            for(int id=0; id<size; ++id){
+                key[id] = random.nextInt(500);
+                queue.insert(id, key[id]);
+            }
+            for(int id=0; id<size; id += 3){
+                key[id] += random.nextInt(500);
+                queue.adjust(id, key[id]);
+            }
+            while(queue.getHeapSize() > 0)
+                queue.delete(queue.maxId());
+
+            QueueCounters counters = queue.getCounters();
+            long operations = 0, steps = 0;
+            for(int depth=0; depth<QueueCounters.SIFT_DEPTHS; ++depth){
+                operations += counters.getSiftDepthCount(depth);
+                steps += depth * counters.getSiftDepthCount(depth);
+            }
+            assertEquals(counters.getInserts() + counters.getAdjusts() + counters.getDeletes(), operations, queueType.name());
+            //Operations deeper than the last bucket are only counted at its depth
+            if(counters.getSiftDepthCount(QueueCounters.SIFT_DEPTHS - 1) == 0)
+                assertEquals(counters.getSiftSteps(), steps, queueType.name());
+            else
+                assertTrue(counters.getSiftSteps() >= steps, queueType.name());
+
+            counters.reset();
+            for(int depth=0; depth<QueueCounters.SIFT_DEPTHS; ++depth)
+                assertEquals(0, counters.getSiftDepthCount(depth));
+        }
+    }
+}